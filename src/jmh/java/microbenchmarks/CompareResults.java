@@ -0,0 +1,43 @@
+package microbenchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, e.g. from two commits:
+ * ./gradlew jmhCompare -Pbaseline=build/jmh/results-abc123.json -Pcandidate=build/jmh/results-def456.json
+ */
+public class CompareResults {
+
+    public static void main(String[] args) throws IOException {
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> candidate = read(new File(args[1]));
+
+        System.out.printf("%-60s %14s %14s %9s%n", "benchmark", "baseline", "candidate", "change");
+        candidate.forEach((name, result) -> {
+            JsonNode before = baseline.get(name);
+            double score = result.path("primaryMetric").path("score").asDouble();
+            String unit = result.path("primaryMetric").path("scoreUnit").asText();
+            if (before == null) {
+                System.out.printf("%-60s %14s %14.3f %9s  %s%n", name, "-", score, "new", unit);
+                return;
+            }
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            System.out.printf("%-60s %14.3f %14.3f %+8.1f%%  %s%n",
+                    name, beforeScore, score, (score - beforeScore) / beforeScore * 100, unit);
+        });
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.path("benchmark").asText().replace("microbenchmarks.", "") + " [" + result.path("mode").asText() + "]";
+            results.put(name, result);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,75 @@
+package microbenchmarks;
+
+import apiAuto.UserApiRequests;
+import fixtures.FixtureServer;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Inputs for the benchmarks, taken from the local fixtures so the numbers do not
+ * depend on the network: API responses from FixtureServer, feature files from the
+ * test resources, and a WebDriver stub for code that only needs a driver reference.
+ */
+final class LocalFixtures {
+
+    private LocalFixtures() {
+    }
+
+    static String userJson() {
+        return get("/data/v1/user/" + UserApiRequests.SAMPLE_USER_ID);
+    }
+
+    static String userListJson() {
+        return get("/data/v1/user?limit=50");
+    }
+
+    static String resource(String name) {
+        try (InputStream input = LocalFixtures.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing test resource " + name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // PageFactory only creates lazy proxies, so page constructors never call the driver
+    static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(LocalFixtures.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "StubDriver";
+                    default -> null;
+                });
+    }
+
+    private static String get(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(FixtureServer.start().getApiBaseUrl() + path))
+                .header("app-id", "benchmark")
+                .build();
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
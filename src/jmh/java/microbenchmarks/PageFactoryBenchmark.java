@@ -0,0 +1,62 @@
+package microbenchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import locators.PageElements;
+import org.openqa.selenium.WebDriver;
+import pages.HomePage;
+import pages.LoginPage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building page objects: PageElements.init creates one proxy per @FindBy field,
+ * and every step that calls context.getLoginPage()/getHomePage() for a new scenario pays it.
+ * Runs with the locator cache on (CachingFieldDecorator) and off (plain PageFactory locators).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageFactoryBenchmark {
+
+    @Param({"true", "false"})
+    public String locatorCache;
+
+    private WebDriver driver;
+    private LoginPage loginPage;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("locator.cache", locatorCache);
+        driver = LocalFixtures.stubDriver();
+        loginPage = new LoginPage(driver);
+    }
+
+    @Benchmark
+    public LoginPage newLoginPage() {
+        return new LoginPage(driver);
+    }
+
+    @Benchmark
+    public HomePage newHomePage() {
+        return new HomePage(driver);
+    }
+
+    // PageElements.init alone, without the waits the constructors also create
+    @Benchmark
+    public LoginPage initElementsOnLoginPage() {
+        PageElements.init(driver, loginPage);
+        return loginPage;
+    }
+}
@@ -0,0 +1,94 @@
+package microbenchmarks;
+
+import io.cucumber.cucumberexpressions.Argument;
+import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.ExpressionFactory;
+import io.cucumber.cucumberexpressions.ParameterTypeRegistry;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import stepDefinitions.LoginStepDefinitions;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching the steps of login.feature against the LoginStepDefinitions expressions,
+ * the way Cucumber does for every step: try each expression until one matches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StepMatchingBenchmark {
+
+    private static final String[] KEYWORDS = {"Given ", "When ", "Then ", "And ", "But "};
+
+    private final List<String> patterns = new ArrayList<>();
+    private final List<String> steps = new ArrayList<>();
+    private List<Expression> expressions;
+
+    @Setup
+    public void setUp() {
+        for (Method method : LoginStepDefinitions.class.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Given.class)) {
+                patterns.add(method.getAnnotation(Given.class).value());
+            } else if (method.isAnnotationPresent(When.class)) {
+                patterns.add(method.getAnnotation(When.class).value());
+            } else if (method.isAnnotationPresent(Then.class)) {
+                patterns.add(method.getAnnotation(Then.class).value());
+            }
+        }
+
+        for (String line : LocalFixtures.resource("features/login.feature").lines().map(String::trim).toList()) {
+            for (String keyword : KEYWORDS) {
+                if (line.startsWith(keyword)) {
+                    steps.add(line.substring(keyword.length()));
+                }
+            }
+        }
+        expressions = compile();
+    }
+
+    @Benchmark
+    public List<Expression> compileExpressions() {
+        return compile();
+    }
+
+    @Benchmark
+    public void matchLoginFeature(Blackhole blackhole) {
+        for (String step : steps) {
+            for (Expression expression : expressions) {
+                List<Argument<?>> arguments = expression.match(step);
+                if (arguments != null) {
+                    blackhole.consume(arguments);
+                    break;
+                }
+            }
+        }
+    }
+
+    private List<Expression> compile() {
+        ExpressionFactory factory = new ExpressionFactory(new ParameterTypeRegistry(Locale.ENGLISH));
+        List<Expression> compiled = new ArrayList<>();
+        for (String pattern : patterns) {
+            compiled.add(factory.createExpression(pattern));
+        }
+        return compiled;
+    }
+}
@@ -0,0 +1,82 @@
+package microbenchmarks;
+
+import apiAuto.UserApiTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON handling in UserApiTest without the HTTP round trip: Jackson mapping of
+ * UserApiTest.User and the jsonPath() lookups the tests make, on bodies served by the
+ * local user API stub.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserJsonBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String userJson;
+    private String userListJson;
+    private UserApiTest.User user;
+    private JsonPath parsedUser;
+
+    @Setup
+    public void setUp() throws IOException {
+        userJson = LocalFixtures.userJson();
+        userListJson = LocalFixtures.userListJson();
+        user = mapper.readValue(userJson, UserApiTest.User.class);
+        parsedUser = JsonPath.from(userJson);
+    }
+
+    @Benchmark
+    public UserApiTest.User deserializeUser() throws IOException {
+        return mapper.readValue(userJson, UserApiTest.User.class);
+    }
+
+    @Benchmark
+    public String serializeUser() throws IOException {
+        return mapper.writeValueAsString(user);
+    }
+
+    // What testGetUserById does: several getString calls on one response
+    @Benchmark
+    public void jsonPathUserFields(Blackhole blackhole) {
+        JsonPath json = JsonPath.from(userJson);
+        blackhole.consume(json.getString("id"));
+        blackhole.consume(json.getString("firstName"));
+        blackhole.consume(json.getString("lastName"));
+        blackhole.consume(json.getString("email"));
+    }
+
+    // Lookup cost alone, on an already parsed body
+    @Benchmark
+    public String jsonPathOnParsedUser() {
+        return parsedUser.getString("firstName");
+    }
+
+    @Benchmark
+    public void jsonPathUserList(Blackhole blackhole) {
+        JsonPath json = JsonPath.from(userListJson);
+        List<Object> data = json.getList("data");
+        blackhole.consume(data.size());
+        blackhole.consume(json.getString("data[0].id"));
+        blackhole.consume(json.getInt("limit"));
+    }
+}
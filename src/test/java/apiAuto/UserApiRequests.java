@@ -0,0 +1,64 @@
+package apiAuto;
+
+import apiClient.ApiRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.Map;
+
+/**
+ * The requests behind UserApiTest, shared with the load runner so both exercise the same calls.
+ */
+public class UserApiRequests {
+
+    public static final String SAMPLE_USER_ID = "60d0fe4f5311236168a109d8";
+    public static final String SAMPLE_POSTS_USER_ID = "60d0fe4f5311236168a109d4";
+    public static final String INVALID_USER_ID = "invalidUserId123";
+    public static final int USERS_LIMIT = 5;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static ApiRequest getAllUsers() {
+        return ApiRequest.get("GET /user", "/user");
+    }
+
+    public static ApiRequest getUserById() {
+        return getUserById(SAMPLE_USER_ID);
+    }
+
+    public static ApiRequest getUserById(String id) {
+        return ApiRequest.get("GET /user/{id}", "/user/" + id);
+    }
+
+    public static ApiRequest getUsersWithLimit() {
+        return getUsersWithLimit(USERS_LIMIT);
+    }
+
+    public static ApiRequest getUsersWithLimit(int limit) {
+        return ApiRequest.get("GET /user?limit", "/user", Map.of("limit", String.valueOf(limit)));
+    }
+
+    public static ApiRequest createUser() {
+        return createUser("John", "Doe", "john.doe.load" + System.nanoTime() + "@example.com");
+    }
+
+    public static ApiRequest createUser(String firstName, String lastName, String email) {
+        ObjectNode body = MAPPER.createObjectNode()
+                .put("title", "mr")
+                .put("firstName", firstName)
+                .put("lastName", lastName)
+                .put("email", email);
+        return ApiRequest.post("POST /user/create", "/user/create", body.toString());
+    }
+
+    public static ApiRequest getUserPosts() {
+        return getUserPosts(SAMPLE_POSTS_USER_ID);
+    }
+
+    public static ApiRequest getUserPosts(String id) {
+        return ApiRequest.get("GET /user/{id}/post", "/user/" + id + "/post");
+    }
+
+    public static ApiRequest getUserWithInvalidId() {
+        return ApiRequest.get("GET /user/{invalidId}", "/user/" + INVALID_USER_ID);
+    }
+}
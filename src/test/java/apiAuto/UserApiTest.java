@@ -1,11 +1,24 @@
 package apiAuto;
 
+import apiClient.ApiCallStats;
+import apiClient.ApiClient;
+import apiClient.ApiClientConfig;
+import apiClient.ApiRequest;
+import apiClient.TimingFilter;
+import assertions.StreamingJsonAssert;
+import datasets.ApiDatasetHandler;
+import datasets.BatchRunner;
+import datasets.DatasetReader;
+import datasets.DatasetSummary;
+import metrics.MetricsExporter;
+import config.TestEnvironment;
 import io.restassured.RestAssured;
 import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.junit.jupiter.api.*;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
@@ -68,12 +81,14 @@ public class UserApiTest {
     // BASE TEST SETUP
     @BeforeAll
     public static void setupBaseUrl() {
-        RestAssured.baseURI = "https://dummyapi.io";
+        RestAssured.baseURI = TestEnvironment.apiBaseUri(); // -Dtarget=local for the in-process stub
         RestAssured.basePath = "/data/v1";
+        RestAssured.config = ApiClientConfig.restAssuredConfig(); // Pooled keep-alive connections
 
         requestSpec = new RequestSpecBuilder()
-                .addHeader("app-id", "63a804408eb0cb069b57e43a") // Ganti dengan app-id yang valid dari dummyapi.io
+                .addHeader("app-id", TestEnvironment.apiAppId()) // Ganti dengan app-id yang valid dari dummyapi.io (-Dapi.appId)
                 .addHeader("Content-Type", "application/json")
+                .addFilter(new TimingFilter())
                 .build();
 
         System.out.println("=== API Testing Setup Complete ===");
@@ -88,27 +103,24 @@ public class UserApiTest {
     public void testGetAllUsers() {
         System.out.println("\n=== Testing GET All Users ===");
 
-        Response response = given()
-                .spec(requestSpec)
-                .when()
-                .get("/user")
+        Response response = send(UserApiRequests.getAllUsers())
                 .then()
                 .statusCode(200)
-                .body("data", notNullValue())
-                .body("data.size()", greaterThan(0))
-                .body("data[0].id", notNullValue())
-                .body("data[0].firstName", notNullValue())
-                .body("data[0].lastName", notNullValue())
                 .extract().response();
 
+        // One streaming pass checks every user in data[] instead of re-parsing the body per assertion
+        StreamingJsonAssert.Result users = StreamingJsonAssert.forArray("data")
+                .requireFields("id", "firstName", "lastName")
+                .validate(response.asInputStream())
+                .assertValid();
+
         System.out.println("Status Code: " + response.getStatusCode());
-        System.out.println("Total Users: " + response.jsonPath().getList("data").size());
-        System.out.println("First User: " + response.jsonPath().getString("data[0].firstName") +
-                " " + response.jsonPath().getString("data[0].lastName"));
+        System.out.println("Total Users: " + users.getElementCount());
+        System.out.println("First User: " + users.getFirstElement().get("firstName") +
+                " " + users.getFirstElement().get("lastName"));
 
         // Additional assertions
-        assertNotNull(response.jsonPath().getList("data"));
-        assertTrue(response.jsonPath().getList("data").size() > 0);
+        assertTrue(users.getElementCount() > 0);
 
         System.out.println("✅ Get All Users Test PASSED");
     }
@@ -119,13 +131,9 @@ public class UserApiTest {
     public void testGetUserById() {
         System.out.println("\n=== Testing GET User by ID ===");
 
-        String userId = "60d0fe4f5311236168a109d8"; // Sample user ID
+        String userId = UserApiRequests.SAMPLE_USER_ID;
 
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam("id", userId)
-                .when()
-                .get("/user/{id}")
+        Response response = send(UserApiRequests.getUserById(userId))
                 .then()
                 .statusCode(200)
                 .body("id", equalTo(userId))
@@ -156,21 +164,20 @@ public class UserApiTest {
     public void testGetUsersWithLimit() {
         System.out.println("\n=== Testing GET Users with Limit ===");
 
-        int limit = 5;
+        int limit = UserApiRequests.USERS_LIMIT;
 
-        Response response = given()
-                .spec(requestSpec)
-                .queryParam("limit", limit)
-                .when()
-                .get("/user")
+        Response response = send(UserApiRequests.getUsersWithLimit(limit))
                 .then()
                 .statusCode(200)
-                .body("data.size()", lessThanOrEqualTo(limit))
-                .body("limit", equalTo(limit))
                 .extract().response();
 
-        int actualSize = response.jsonPath().getList("data").size();
-        int responseLimit = response.jsonPath().getInt("limit");
+        StreamingJsonAssert.Result users = StreamingJsonAssert.forArray("data")
+                .requireFields("id", "firstName", "lastName")
+                .validate(response.asInputStream())
+                .assertValid();
+
+        int actualSize = users.getElementCount();
+        int responseLimit = users.getTopLevelInt("limit");
 
         System.out.println("Status Code: " + response.getStatusCode());
         System.out.println("Requested Limit: " + limit);
@@ -189,14 +196,9 @@ public class UserApiTest {
     public void testCreateUser() {
         System.out.println("\n=== Testing CREATE User ===");
 
-        User newUser = new User("John", "Doe", "john.doe.test" + System.currentTimeMillis() + "@example.com");
-        newUser.setTitle("mr");
+        String email = "john.doe.test" + System.currentTimeMillis() + "@example.com";
 
-        Response response = given()
-                .spec(requestSpec)
-                .body(newUser)
-                .when()
-                .post("/user/create")
+        Response response = send(UserApiRequests.createUser("John", "Doe", email))
                 .then()
                 .statusCode(200)
                 .body("firstName", equalTo("John"))
@@ -228,13 +230,9 @@ public class UserApiTest {
     public void testGetUserPosts() {
         System.out.println("\n=== Testing GET User Posts ===");
 
-        String userId = "60d0fe4f5311236168a109d4"; // Sample user ID
+        String userId = UserApiRequests.SAMPLE_POSTS_USER_ID;
 
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam("id", userId)
-                .when()
-                .get("/user/{id}/post")
+        Response response = send(UserApiRequests.getUserPosts(userId))
                 .then()
                 .statusCode(200)
                 .body("data", notNullValue())
@@ -268,13 +266,9 @@ public class UserApiTest {
     public void testGetUserWithInvalidId() {
         System.out.println("\n=== Testing GET User with Invalid ID ===");
 
-        String invalidUserId = "invalidUserId123";
+        String invalidUserId = UserApiRequests.INVALID_USER_ID;
 
-        Response response = given()
-                .spec(requestSpec)
-                .pathParam("id", invalidUserId)
-                .when()
-                .get("/user/{id}")
+        Response response = send(UserApiRequests.getUserWithInvalidId())
                 .then()
                 .statusCode(anyOf(equalTo(400), equalTo(404))) // Accept either 400 or 404
                 .extract().response();
@@ -307,10 +301,48 @@ public class UserApiTest {
         System.out.println("✅ Invalid User ID Test PASSED - Error handled correctly");
     }
 
+    // DATA-DRIVEN TEST CASE
+
+    @Test
+    @Order(7)
+    @DisplayName("Data-driven Test: every request in -Dapi.dataset returns its expected status")
+    public void testUserDataset() {
+        String dataset = System.getProperty("api.dataset");
+        Assumptions.assumeTrue(dataset != null, "Set -Dapi.dataset (e.g. datasets/users.jsonl) to run");
+        System.out.println("\n=== Testing dataset " + dataset + " ===");
+
+        DatasetSummary summary;
+        try (ApiClient client = ApiClient.create(RestAssured.baseURI, RestAssured.basePath, Map.of(
+                "app-id", TestEnvironment.apiAppId(),
+                "Content-Type", "application/json"))) {
+            summary = BatchRunner.run(dataset, DatasetReader.open(dataset), () -> new ApiDatasetHandler(client));
+        }
+        System.out.println(summary);
+
+        assertTrue(summary.getRows() > 0, "Dataset should not be empty");
+        assertEquals(0, summary.getFailed(), "Dataset rows with an unexpected status: " + summary.getFailures());
+
+        System.out.println("✅ Dataset Test PASSED");
+    }
+
+    // Sends one of the UserApiRequests definitions that the load runner also uses, through the test's spec
+    private static Response send(ApiRequest request) {
+        RequestSpecification spec = given()
+                .spec(requestSpec)
+                .queryParams(request.queryParams());
+        if (request.body() != null) {
+            spec.body(request.body());
+        }
+        return spec.request(request.method(), request.path());
+    }
+
     @AfterAll
     public static void tearDown() {
         System.out.println("\n=== Test Suite Completed ===");
         System.out.println("All tests have been executed.");
         System.out.println("Check individual test results above for details.");
+
+        ApiCallStats.printSummary();
+        MetricsExporter.export();
     }
 }
@@ -0,0 +1,66 @@
+package apiClient;
+
+import metrics.LatencyMetrics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint request timings, shared by all threads. Every request is also
+ * recorded in LatencyMetrics for the metrics export.
+ */
+public class ApiCallStats {
+
+    private static final Map<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    public static void record(String endpoint, long elapsedNanos, int statusCode) {
+        STATS.computeIfAbsent(endpoint, k -> new Stat()).add(elapsedNanos, statusCode);
+        LatencyMetrics.record(LatencyMetrics.API, elapsedNanos, "endpoint", endpoint, "status", String.valueOf(statusCode));
+    }
+
+    public static Map<String, Stat> snapshot() {
+        return new TreeMap<>(STATS);
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    public static void printSummary() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== API Call Timings ===");
+        System.out.printf("%-30s %8s %10s %10s %8s%n", "endpoint", "count", "avg ms", "max ms", "errors");
+        snapshot().forEach((endpoint, stat) -> System.out.printf("%-30s %8d %10.2f %10.2f %8d%n",
+                endpoint, stat.getCount(), stat.getAverageMillis(), stat.getMaxMillis(), stat.getErrors()));
+    }
+
+    public static class Stat {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        void add(long elapsedNanos, int statusCode) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (statusCode >= 500 || statusCode <= 0) {
+                errors.incrementAndGet();
+            }
+        }
+
+        public long getCount() { return count.get(); }
+
+        public long getErrors() { return errors.get(); }
+
+        public double getMaxMillis() { return maxNanos.get() / 1e6; }
+
+        public double getAverageMillis() {
+            long n = count.get();
+            return n == 0 ? 0 : totalNanos.get() / 1e6 / n;
+        }
+    }
+}
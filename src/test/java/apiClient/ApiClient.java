@@ -0,0 +1,28 @@
+package apiClient;
+
+import java.util.Map;
+
+/**
+ * Pluggable transport for API calls that do not need the RestAssured DSL, such as
+ * benchmarks and load runs. Select with -Dapi.client=restassured|jdk (default restassured).
+ */
+public interface ApiClient extends AutoCloseable {
+
+    ApiResponse send(ApiRequest request);
+
+    @Override
+    default void close() {
+    }
+
+    static ApiClient create(String baseUri, String basePath, Map<String, String> headers) {
+        String client = System.getProperty("api.client", "restassured");
+        switch (client) {
+            case "restassured":
+                return new RestAssuredApiClient(baseUri, basePath, headers);
+            case "jdk":
+                return new JdkHttpApiClient(baseUri, basePath, headers);
+            default:
+                throw new IllegalArgumentException("API client not supported: " + client);
+        }
+    }
+}
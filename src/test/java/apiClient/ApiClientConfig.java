@@ -0,0 +1,68 @@
+package apiClient;
+
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import java.time.Duration;
+
+/**
+ * Connection settings for API tests, read from system properties:
+ * - api.pool.maxTotal (default 50): connections kept open across all hosts
+ * - api.pool.maxPerRoute (default 20): connections kept open per host
+ * - api.keepAlive.ms (default 30000): how long an idle connection may be reused
+ * - api.timeout.ms (default 10000): connect and read timeout
+ * - api.http2 (default false): negotiate HTTP/2 where the client supports it (JDK client only)
+ */
+public class ApiClientConfig {
+
+    public static int maxTotalConnections() {
+        return Integer.getInteger("api.pool.maxTotal", 50);
+    }
+
+    public static int maxConnectionsPerRoute() {
+        return Integer.getInteger("api.pool.maxPerRoute", 20);
+    }
+
+    public static Duration keepAlive() {
+        return Duration.ofMillis(Long.getLong("api.keepAlive.ms", 30_000));
+    }
+
+    public static Duration timeout() {
+        return Duration.ofMillis(Long.getLong("api.timeout.ms", 10_000));
+    }
+
+    public static boolean http2() {
+        return Boolean.getBoolean("api.http2");
+    }
+
+    // RestAssured builds a new Apache client per request unless told to reuse one, which rules out keep-alive
+    public static RestAssuredConfig restAssuredConfig() {
+        return RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(ApiClientConfig::createPooledHttpClient));
+    }
+
+    // RestAssured 5.4 hands the factory's client to its HTTPBuilder as an AbstractHttpClient and writes
+    // its own settings through getParams(). A CloseableHttpClient from HttpClientBuilder fails both
+    // (ClassCastException, and its getParams() is read-only), so the pooled client has to be the
+    // deprecated DefaultHttpClient family; the suppression is limited to this factory.
+    @SuppressWarnings("deprecation")
+    static DefaultHttpClient createPooledHttpClient() {
+        PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute());
+
+        DefaultHttpClient client = new DefaultHttpClient(connectionManager);
+        HttpParams params = client.getParams();
+        HttpConnectionParams.setConnectionTimeout(params, (int) timeout().toMillis());
+        HttpConnectionParams.setSoTimeout(params, (int) timeout().toMillis());
+        HttpConnectionParams.setTcpNoDelay(params, true);
+
+        long keepAliveMillis = keepAlive().toMillis();
+        client.setKeepAliveStrategy((response, context) -> keepAliveMillis);
+        return client;
+    }
+}
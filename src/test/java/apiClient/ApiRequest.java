@@ -0,0 +1,22 @@
+package apiClient;
+
+import java.util.Map;
+
+/**
+ * A transport-independent request. {@code name} groups timings (e.g. "GET /user/{id}"),
+ * {@code path} is already resolved and relative to the client's base path.
+ */
+public record ApiRequest(String name, String method, String path, Map<String, String> queryParams, String body) {
+
+    public static ApiRequest get(String name, String path) {
+        return new ApiRequest(name, "GET", path, Map.of(), null);
+    }
+
+    public static ApiRequest get(String name, String path, Map<String, String> queryParams) {
+        return new ApiRequest(name, "GET", path, queryParams, null);
+    }
+
+    public static ApiRequest post(String name, String path, String body) {
+        return new ApiRequest(name, "POST", path, Map.of(), body);
+    }
+}
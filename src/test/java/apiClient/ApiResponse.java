@@ -0,0 +1,4 @@
+package apiClient;
+
+public record ApiResponse(int statusCode, String body, long latencyNanos) {
+}
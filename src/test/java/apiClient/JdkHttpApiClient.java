@@ -0,0 +1,73 @@
+package apiClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ApiClient on the JDK HttpClient, which keeps connections alive by default and can
+ * negotiate HTTP/2 (-Dapi.http2=true). Servers that only speak HTTP/1.1 are still
+ * served over HTTP/1.1.
+ */
+public class JdkHttpApiClient implements ApiClient {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String[] headers;
+
+    public JdkHttpApiClient(String baseUri, String basePath, Map<String, String> headers) {
+        this.client = HttpClient.newBuilder()
+                .version(ApiClientConfig.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(ApiClientConfig.timeout())
+                .build();
+        this.baseUrl = baseUri + basePath;
+        this.headers = headers.entrySet().stream()
+                .flatMap(header -> Stream.of(header.getKey(), header.getValue()))
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public ApiResponse send(ApiRequest request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path() + query(request.queryParams())))
+                .timeout(ApiClientConfig.timeout())
+                .method(request.method(), request.body() == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(request.body()));
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+
+        long start = System.nanoTime();
+        int statusCode = -1;
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            statusCode = response.statusCode();
+            return new ApiResponse(statusCode, response.body(), System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.name(), e);
+        } finally {
+            ApiCallStats.record(request.name(), System.nanoTime() - start, statusCode);
+        }
+    }
+
+    private static String query(Map<String, String> queryParams) {
+        if (queryParams.isEmpty()) {
+            return "";
+        }
+        return queryParams.entrySet().stream()
+                .map(param -> URLEncoder.encode(param.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(param.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&", "?", ""));
+    }
+}
@@ -0,0 +1,47 @@
+package apiClient;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * ApiClient on top of RestAssured with the pooled keep-alive connection settings.
+ */
+public class RestAssuredApiClient implements ApiClient {
+
+    private final RequestSpecification spec;
+
+    public RestAssuredApiClient(String baseUri, String basePath, Map<String, String> headers) {
+        this.spec = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setBasePath(basePath)
+                .addHeaders(headers)
+                .setConfig(ApiClientConfig.restAssuredConfig())
+                .build();
+    }
+
+    public RequestSpecification getSpec() {
+        return spec;
+    }
+
+    @Override
+    public ApiResponse send(ApiRequest request) {
+        RequestSpecification requestSpec = given().spec(spec).queryParams(request.queryParams());
+        if (request.body() != null) {
+            requestSpec.body(request.body());
+        }
+
+        long start = System.nanoTime();
+        int statusCode = -1;
+        try {
+            Response response = requestSpec.request(request.method(), request.path());
+            statusCode = response.getStatusCode();
+            return new ApiResponse(statusCode, response.getBody().asString(), System.nanoTime() - start);
+        } finally {
+            ApiCallStats.record(request.name(), System.nanoTime() - start, statusCode);
+        }
+    }
+}
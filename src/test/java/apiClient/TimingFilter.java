@@ -0,0 +1,47 @@
+package apiClient;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.util.regex.Pattern;
+
+/**
+ * RestAssured filter that records the time of every request in ApiCallStats,
+ * grouped by method and path template (e.g. "GET /user/{id}"). Ids concatenated into the
+ * path instead of passed as path params are folded into "{id}" as well.
+ */
+public class TimingFilter implements Filter {
+
+    // Mongo-style object ids (dummyapi.io), UUIDs and plain numbers
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "[0-9a-fA-F]{24}|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+");
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = requestSpec.getMethod() + " " + template(requestSpec.getUserDefinedPath());
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            ApiCallStats.record(endpoint, System.nanoTime() - start, response.getStatusCode());
+            return response;
+        } catch (RuntimeException e) {
+            ApiCallStats.record(endpoint, System.nanoTime() - start, -1);
+            throw e;
+        }
+    }
+
+    static String template(String path) {
+        int query = path.indexOf('?');
+        String[] segments = (query < 0 ? path : path.substring(0, query)).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (ID_SEGMENT.matcher(segments[i]).matches()) {
+                segments[i] = "{id}";
+            }
+        }
+        return String.join("/", segments);
+    }
+}
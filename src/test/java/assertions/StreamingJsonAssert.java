@@ -0,0 +1,193 @@
+package assertions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single-pass validation of a JSON object holding a list, e.g. {"data": [...], "total": 100, "limit": 20},
+ * on Jackson's streaming parser. Every element of the array is checked as it is read and then
+ * discarded, so memory stays flat no matter how many elements the response holds. Only the
+ * top-level scalars and the scalar fields of the first element are kept for assertions and logging.
+ *
+ * <pre>
+ * StreamingJsonAssert.Result result = StreamingJsonAssert.forArray("data")
+ *         .requireFields("id", "firstName", "lastName")
+ *         .validate(response.asInputStream());
+ * result.assertValid();
+ * </pre>
+ */
+public class StreamingJsonAssert {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final String arrayField;
+    private final Set<String> requiredFields = new LinkedHashSet<>();
+
+    private StreamingJsonAssert(String arrayField) {
+        this.arrayField = arrayField;
+    }
+
+    public static StreamingJsonAssert forArray(String arrayField) {
+        return new StreamingJsonAssert(arrayField);
+    }
+
+    // Fields that must be present and not null in every element of the array
+    public StreamingJsonAssert requireFields(String... fields) {
+        requiredFields.addAll(List.of(fields));
+        return this;
+    }
+
+    public Result validate(InputStream body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return validate(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body is not valid JSON", e);
+        }
+    }
+
+    private Result validate(JsonParser parser) throws IOException {
+        Result result = new Result();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            result.addError("Expected a JSON object at the top level");
+            return result;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if (field.equals(arrayField)) {
+                if (value == JsonToken.START_ARRAY) {
+                    result.arrayFound = true;
+                    readElements(parser, result);
+                } else {
+                    result.addError("Field '" + arrayField + "' is " + value + ", expected an array");
+                    parser.skipChildren();
+                }
+            } else if (value.isScalarValue()) {
+                result.topLevelFields.put(field, scalarValue(parser, value));
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!result.arrayFound) {
+            result.addError("Field '" + arrayField + "' is missing");
+        }
+        return result;
+    }
+
+    private void readElements(JsonParser parser, Result result) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            int index = result.elementCount++;
+            if (token != JsonToken.START_OBJECT) {
+                result.addError(arrayField + "[" + index + "] is " + token + ", expected an object");
+                parser.skipChildren();
+                continue;
+            }
+
+            Set<String> present = new LinkedHashSet<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value != JsonToken.VALUE_NULL && requiredFields.contains(field)) {
+                    present.add(field);
+                }
+                if (index == 0 && value.isScalarValue()) {
+                    result.firstElement.put(field, scalarValue(parser, value));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (present.size() != requiredFields.size()) {
+                for (String field : requiredFields) {
+                    if (!present.contains(field)) {
+                        result.addError(arrayField + "[" + index + "]." + field + " is missing or null");
+                    }
+                }
+            }
+        }
+    }
+
+    private static Object scalarValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            default:
+                return null;
+        }
+    }
+
+    public static class Result {
+        private boolean arrayFound;
+        private int elementCount;
+        private int errorCount;
+        private final List<String> errors = new ArrayList<>();
+        private final Map<String, Object> topLevelFields = new LinkedHashMap<>();
+        private final Map<String, Object> firstElement = new LinkedHashMap<>();
+
+        private void addError(String error) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        public int getElementCount() {
+            return elementCount;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+
+        public boolean isValid() {
+            return errorCount == 0;
+        }
+
+        public Object getTopLevelField(String field) {
+            return topLevelFields.get(field);
+        }
+
+        // Fails the assertion instead of throwing a NullPointerException when the field is missing
+        public int getTopLevelInt(String field) {
+            Object value = topLevelFields.get(field);
+            if (!(value instanceof Number number)) {
+                throw new AssertionError("Expected a numeric top-level field '" + field + "' but got " + value);
+            }
+            return number.intValue();
+        }
+
+        public Map<String, Object> getFirstElement() {
+            return firstElement;
+        }
+
+        public Result assertValid() {
+            if (!isValid()) {
+                throw new AssertionError(errorCount + " JSON structure error(s), first ones: " + errors);
+            }
+            return this;
+        }
+    }
+}
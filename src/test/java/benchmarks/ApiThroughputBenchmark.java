@@ -0,0 +1,89 @@
+package benchmarks;
+
+import apiClient.ApiCallStats;
+import apiClient.ApiClient;
+import apiClient.ApiRequest;
+import fixtures.FixtureServer;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.specification.RequestSpecification;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Requests per second against the local /data/v1/user stub for RestAssured's default
+ * client (a new connection per request), the pooled keep-alive RestAssured client and
+ * the JDK client over HTTP/1.1 and HTTP/2.
+ */
+public class ApiThroughputBenchmark {
+
+    private static final int THREADS = Integer.getInteger("threads", 8);
+    private static final int REQUESTS_PER_THREAD = Integer.getInteger("requests", 500);
+    private static final Map<String, String> HEADERS = Map.of("app-id", "local-fixture", "Content-Type", "application/json");
+    private static final ApiRequest GET_USER = ApiRequest.get("GET /user/{id}", "/user/60d0fe4f5311236168a109d8");
+
+    public static void main(String[] args) throws Exception {
+        String baseUri = FixtureServer.start().getApiBaseUrl();
+
+        System.out.println("\n=== API Throughput Benchmark (" + THREADS + " threads x " + REQUESTS_PER_THREAD + " requests) ===");
+
+        RequestSpecification defaultSpec = new RequestSpecBuilder()
+                .setBaseUri(baseUri)
+                .setBasePath("/data/v1")
+                .addHeaders(HEADERS)
+                .build();
+        report("restassured (default)", run(() -> given().spec(defaultSpec).get(GET_USER.path()).getStatusCode()));
+
+        System.setProperty("api.client", "restassured");
+        try (ApiClient client = ApiClient.create(baseUri, "/data/v1", HEADERS)) {
+            report("restassured (pooled)", run(() -> client.send(GET_USER).statusCode()));
+        }
+
+        System.setProperty("api.client", "jdk");
+        for (boolean http2 : new boolean[]{false, true}) {
+            System.setProperty("api.http2", String.valueOf(http2));
+            try (ApiClient client = ApiClient.create(baseUri, "/data/v1", HEADERS)) {
+                report(http2 ? "jdk (http/2)" : "jdk (http/1.1)", run(() -> client.send(GET_USER).statusCode()));
+            }
+        }
+
+        ApiCallStats.printSummary();
+        System.exit(0);
+    }
+
+    private interface Call {
+        int execute();
+    }
+
+    private static long run(Call call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    if (call.execute() != 200) {
+                        throw new IllegalStateException("Unexpected status code");
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String client, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%-24s %10.0f req/s %10.1f ms total%n",
+                client, THREADS * REQUESTS_PER_THREAD / seconds, elapsedNanos / 1e6);
+    }
+}
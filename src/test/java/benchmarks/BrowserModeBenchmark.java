@@ -0,0 +1,59 @@
+package benchmarks;
+
+import drivers.BrowserModeStats;
+import drivers.DriverPool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs login.feature and inventory.feature against the local SauceDemo fixture on headless
+ * Chrome and on the in-JVM HtmlUnit driver, and prints wall-clock time, scenarios per second
+ * and peak memory per worker for both (see BrowserModeStats).
+ *
+ * One unmeasured run of each browser warms up the JIT, the driver binaries and the step
+ * definitions first. Then -Dbenchmark.rounds (default 3) measured rounds follow, alternating
+ * which browser goes first, and the median of each browser is compared.
+ */
+public class BrowserModeBenchmark {
+
+    private static final String TAGS = "@smoke or @positive or @negative or @boundary";
+
+    public static void main(String[] args) {
+        System.setProperty("target", "local");
+        int rounds = Integer.getInteger("benchmark.rounds", 3);
+
+        runSuite("chrome");
+        runSuite("htmlunit");
+        BrowserModeStats.clear();
+
+        List<Long> chromeMillis = new ArrayList<>();
+        List<Long> htmlUnitMillis = new ArrayList<>();
+        System.out.println("\n=== Browser Mode Benchmark (login.feature and inventory.feature, local fixture) ===");
+        System.out.printf("%-8s %-10s %12s %12s%n", "round", "first", "chrome ms", "htmlunit ms");
+        for (int round = 1; round <= rounds; round++) {
+            boolean htmlUnitFirst = round % 2 == 0;
+            long first = runSuite(htmlUnitFirst ? "htmlunit" : "chrome");
+            long second = runSuite(htmlUnitFirst ? "chrome" : "htmlunit");
+            chromeMillis.add(htmlUnitFirst ? second : first);
+            htmlUnitMillis.add(htmlUnitFirst ? first : second);
+            System.out.printf("%-8d %-10s %12d %12d%n", round, htmlUnitFirst ? "htmlunit" : "chrome",
+                    chromeMillis.get(round - 1), htmlUnitMillis.get(round - 1));
+        }
+
+        long chrome = SuiteTimer.median(chromeMillis);
+        long htmlUnit = SuiteTimer.median(htmlUnitMillis);
+        System.out.println("Headless Chrome (median): " + chrome + " ms");
+        System.out.println("HtmlUnit (median):        " + htmlUnit + " ms");
+        System.out.printf("Speedup:                  %.2fx%n", (double) chrome / htmlUnit);
+        BrowserModeStats.printSummary();
+        System.exit(0);
+    }
+
+    private static long runSuite(String browser) {
+        System.setProperty("browser", browser);
+        long millis = SuiteTimer.run(TAGS);
+        // Idle sessions would otherwise be counted against the next run
+        DriverPool.getInstance().shutdown();
+        return millis;
+    }
+}
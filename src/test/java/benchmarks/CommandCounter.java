@@ -0,0 +1,38 @@
+package benchmarks;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the WebDriver commands sent through a decorated driver and the elements it returns.
+ */
+class CommandCounter implements WebDriverListener {
+
+    // Calls that only return a helper object and never reach the browser
+    private static final Set<String> LOCAL_CALLS = Set.of("manage", "timeouts", "navigate", "switchTo", "window", "getWrappedDriver");
+
+    private final AtomicLong commands = new AtomicLong();
+
+    WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<WebDriver>(this).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            commands.incrementAndGet();
+        }
+    }
+
+    long get() {
+        return commands.get();
+    }
+
+    void reset() {
+        commands.set(0);
+    }
+}
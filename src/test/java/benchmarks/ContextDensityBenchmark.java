@@ -0,0 +1,85 @@
+package benchmarks;
+
+import drivers.BrowserContexts;
+import drivers.BrowserModeStats;
+import drivers.DriverFactory;
+import org.openqa.selenium.WebDriver;
+import pages.HomePage;
+import pages.LoginPage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Opens -Dbenchmark.scenarios (default 8) concurrent sessions against the local SauceDemo fixture,
+ * once as one Chrome process each and once as browser contexts (run with -Dbrowser.contexts=N,
+ * default here 8), logs every session in, and prints the browser memory per concurrent scenario
+ * and the login throughput of both.
+ */
+public class ContextDensityBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("target", "local");
+        if (System.getProperty("browser.contexts") == null) {
+            System.setProperty("browser.contexts", "8");
+        }
+        int scenarios = Integer.getInteger("benchmark.scenarios", 8);
+
+        Result processes = run(scenarios, () -> DriverFactory.createDriver("chrome", DriverFactory.createOptions("chrome")),
+                DriverFactory::quit);
+        Result contexts = run(scenarios, BrowserContexts.getInstance()::acquire, BrowserContexts.getInstance()::release);
+
+        System.out.println("\n=== Context Density Benchmark (" + scenarios + " concurrent scenarios, local fixture) ===");
+        System.out.printf("%-22s %16s %18s %14s%n", "mode", "browser RSS MB", "MB per scenario", "logins/s");
+        processes.print("process per scenario", scenarios);
+        contexts.print("browser contexts", scenarios);
+        if (processes.browserBytes() > 0 && contexts.browserBytes() > 0) {
+            System.out.printf("Concurrent scenarios per GB: %.1fx more with browser contexts%n",
+                    (double) processes.browserBytes() / contexts.browserBytes());
+        }
+        BrowserContexts.printSummary();
+        System.exit(0);
+    }
+
+    private static Result run(int scenarios, Supplier<WebDriver> open, Consumer<WebDriver> close) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(scenarios);
+        List<WebDriver> drivers = new ArrayList<>();
+        try {
+            for (int i = 0; i < scenarios; i++) {
+                drivers.add(open.get());
+            }
+
+            long start = System.nanoTime();
+            List<Future<?>> logins = new ArrayList<>();
+            for (WebDriver driver : drivers) {
+                logins.add(executor.submit(() -> {
+                    LoginPage loginPage = new LoginPage(driver);
+                    loginPage.navigateToLoginPage();
+                    loginPage.fastLogin("standard_user", "secret_sauce");
+                    return new HomePage(driver).getNumberOfProducts();
+                }));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+            long elapsed = System.nanoTime() - start;
+            // Measured with every session still open and logged in
+            return new Result(BrowserModeStats.childProcessBytes(), elapsed);
+        } finally {
+            drivers.forEach(close);
+            executor.shutdown();
+        }
+    }
+
+    private record Result(long browserBytes, long loginNanos) {
+
+        void print(String mode, int scenarios) {
+            System.out.printf("%-22s %16.1f %18.1f %14.1f%n", mode, browserBytes / 1e6, browserBytes / 1e6 / scenarios,
+                    scenarios / (loginNanos / 1e9));
+        }
+    }
+}
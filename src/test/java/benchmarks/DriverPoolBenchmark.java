@@ -0,0 +1,55 @@
+package benchmarks;
+
+import drivers.DriverPool;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs login.feature against the local SauceDemo fixture with a fresh browser per scenario
+ * and with pooled sessions, and prints the wall-clock time of both.
+ *
+ * One unmeasured run of each mode warms up the JIT, the driver binaries and the disk cache
+ * first. Then -Dbenchmark.rounds (default 3) measured rounds follow, alternating which mode
+ * goes first, and the median of each mode is compared.
+ */
+public class DriverPoolBenchmark {
+
+    private static final String TAGS = "@smoke or @positive or @negative or @boundary";
+
+    public static void main(String[] args) {
+        System.setProperty("target", "local");
+        int rounds = Integer.getInteger("benchmark.rounds", 3);
+
+        runSuite(false);
+        runSuite(true);
+
+        List<Long> freshMillis = new ArrayList<>();
+        List<Long> pooledMillis = new ArrayList<>();
+        System.out.println("\n=== Driver Pool Benchmark (login.feature, local fixture) ===");
+        System.out.printf("%-8s %-8s %12s %12s%n", "round", "first", "fresh ms", "pooled ms");
+        for (int round = 1; round <= rounds; round++) {
+            boolean pooledFirst = round % 2 == 0;
+            long first = runSuite(pooledFirst);
+            long second = runSuite(!pooledFirst);
+            freshMillis.add(pooledFirst ? second : first);
+            pooledMillis.add(pooledFirst ? first : second);
+            System.out.printf("%-8d %-8s %12d %12d%n", round, pooledFirst ? "pooled" : "fresh",
+                    freshMillis.get(round - 1), pooledMillis.get(round - 1));
+        }
+
+        long fresh = SuiteTimer.median(freshMillis);
+        long pooled = SuiteTimer.median(pooledMillis);
+        System.out.println("Fresh browser per scenario (median): " + fresh + " ms");
+        System.out.println("Pooled sessions (median):            " + pooled + " ms");
+        System.out.printf("Speedup:                             %.2fx%n", (double) fresh / pooled);
+        System.exit(0);
+    }
+
+    private static long runSuite(boolean pooled) {
+        System.setProperty("driver.pool.enabled", String.valueOf(pooled));
+        long millis = SuiteTimer.run(TAGS);
+        // Sessions left idle by a pooled run would otherwise be handed to the next run
+        DriverPool.getInstance().shutdown();
+        return millis;
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import config.TestEnvironment;
+import drivers.DriverFactory;
+import metrics.MetricsExporter;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Starts and quits -Dbenchmark.starts (default 5) sessions of -Dbrowser (default chrome), first on
+ * empty profiles and then on copies of the pre-warmed template, against the local SauceDemo
+ * fixture. Prints the session start time and the time until the login page has loaded; the first
+ * start in the JVM (binary resolution, template build) is reported separately as cold.
+ */
+public class DriverStartBenchmark {
+
+    public static void main(String[] args) {
+        System.setProperty("target", "local");
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        int starts = Integer.getInteger("benchmark.starts", 5);
+        Capabilities options = DriverFactory.createOptions(browserName);
+        String loginUrl = TestEnvironment.webBaseUrl();
+
+        System.out.println("\n=== Driver Start Benchmark (" + browserName + ", avg of " + starts + " warm starts) ===");
+        System.out.printf("%-18s %12s %12s %18s%n", "profile", "cold ms", "warm ms", "warm + page ms");
+        for (boolean template : new boolean[]{false, true}) {
+            System.setProperty("browser.profile.template", String.valueOf(template));
+            long coldNanos = 0;
+            long startNanos = 0;
+            long pageNanos = 0;
+            for (int i = 0; i <= starts; i++) {
+                long start = System.nanoTime();
+                WebDriver driver = DriverFactory.createDriver(browserName, options);
+                long started = System.nanoTime();
+                driver.get(loginUrl);
+                long loaded = System.nanoTime();
+                DriverFactory.quit(driver);
+
+                // The first start of each profile mode is the cold one
+                if (i == 0) {
+                    coldNanos = started - start;
+                } else {
+                    startNanos += started - start;
+                    pageNanos += loaded - start;
+                }
+            }
+            System.out.printf("%-18s %12.1f %12.1f %18.1f%n", template ? "warmed template" : "empty",
+                    coldNanos / 1e6, startNanos / 1e6 / starts, pageNanos / 1e6 / starts);
+        }
+        MetricsExporter.export();
+        System.exit(0);
+    }
+}
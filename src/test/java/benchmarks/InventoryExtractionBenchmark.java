@@ -0,0 +1,69 @@
+package benchmarks;
+
+import drivers.DriverPool;
+import fixtures.FixtureServer;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import pages.HomePage;
+import java.util.List;
+
+/**
+ * Compares reading product names and prices element by element with the single
+ * executeScript extraction in HomePage, on generated inventory pages of 6, 100 and 1,000 items.
+ */
+public class InventoryExtractionBenchmark {
+
+    private static final int[] ITEM_COUNTS = {6, 100, 1_000};
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        String baseUrl = FixtureServer.start().getBaseUrl();
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        WebDriver driver = DriverPool.getInstance().acquire(browserName);
+
+        try {
+            driver.get(baseUrl);
+            driver.manage().addCookie(new Cookie("session-username", "standard_user"));
+
+            System.out.println("\n=== Inventory Extraction Benchmark (avg of " + ROUNDS + " rounds) ===");
+            System.out.printf("%8s %18s %18s%n", "items", "per-element ms", "batched ms");
+
+            for (int itemCount : ITEM_COUNTS) {
+                driver.get(baseUrl + "inventory.html?items=" + itemCount);
+                HomePage homePage = new HomePage(driver);
+
+                long perElementNanos = 0;
+                long batchedNanos = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    readPerElement(driver);
+                    perElementNanos += System.nanoTime() - start;
+
+                    start = System.nanoTime();
+                    homePage.getInventoryItems();
+                    batchedNanos += System.nanoTime() - start;
+                }
+
+                System.out.printf("%8d %18.1f %18.1f%n", itemCount,
+                        perElementNanos / 1e6 / ROUNDS, batchedNanos / 1e6 / ROUNDS);
+            }
+        } finally {
+            DriverPool.getInstance().release(driver);
+        }
+        System.exit(0);
+    }
+
+    private static void readPerElement(WebDriver driver) {
+        List<String> names = driver.findElements(By.cssSelector(".inventory_item_name")).stream()
+                .map(WebElement::getText)
+                .toList();
+        List<String> prices = driver.findElements(By.cssSelector(".inventory_item_price")).stream()
+                .map(WebElement::getText)
+                .toList();
+        if (names.size() != prices.size()) {
+            throw new IllegalStateException("Names and prices out of sync");
+        }
+    }
+}
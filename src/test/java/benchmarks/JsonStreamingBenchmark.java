@@ -0,0 +1,89 @@
+package benchmarks;
+
+import assertions.StreamingJsonAssert;
+import com.sun.management.ThreadMXBean;
+import fixtures.FixtureServer;
+import io.restassured.path.json.JsonPath;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates a user list of 10k and 100k users from the local stub in two ways: the
+ * jsonPath() extraction UserApiTest used before (each call re-parses the body) and a
+ * single StreamingJsonAssert pass. Reports time and bytes allocated per validation.
+ */
+public class JsonStreamingBenchmark {
+
+    private static final int[] USER_COUNTS = {10_000, 100_000};
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("fixture.users", "100000");
+        System.setProperty("fixture.maxLimit", "100000");
+        String baseUri = FixtureServer.start().getApiBaseUrl();
+        HttpClient client = HttpClient.newHttpClient();
+
+        System.out.println("\n=== JSON Streaming Benchmark (avg of " + ROUNDS + " rounds) ===");
+        System.out.printf("%8s %10s %14s %14s %14s %14s%n",
+                "users", "body KB", "jsonPath ms", "jsonPath MB", "streaming ms", "streaming MB");
+
+        for (int userCount : USER_COUNTS) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + "/data/v1/user?limit=" + userCount))
+                    .header("app-id", "local-fixture")
+                    .build();
+            byte[] body = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+
+            long[] jsonPath = measure(() -> validateWithJsonPath(body));
+            long[] streaming = measure(() -> validateWithStreaming(body));
+            System.out.printf("%8d %10d %14.1f %14.1f %14.1f %14.1f%n", userCount, body.length / 1024,
+                    jsonPath[0] / 1e6, jsonPath[1] / 1e6, streaming[0] / 1e6, streaming[1] / 1e6);
+        }
+        System.exit(0);
+    }
+
+    // Same extraction calls testGetAllUsers made, each on a fresh JsonPath like response.jsonPath()
+    private static void validateWithJsonPath(byte[] body) {
+        String json = new String(body);
+        List<Map<String, Object>> data = new JsonPath(json).getList("data");
+        for (Map<String, Object> user : data) {
+            if (user.get("id") == null || user.get("firstName") == null || user.get("lastName") == null) {
+                throw new AssertionError("Invalid user");
+            }
+        }
+        new JsonPath(json).getString("data[0].firstName");
+        new JsonPath(json).getString("data[0].lastName");
+        new JsonPath(json).getList("data").size();
+        new JsonPath(json).getInt("limit");
+    }
+
+    private static void validateWithStreaming(byte[] body) {
+        StreamingJsonAssert.forArray("data")
+                .requireFields("id", "firstName", "lastName")
+                .validate(new ByteArrayInputStream(body))
+                .assertValid();
+    }
+
+    // Returns {average nanos, average bytes allocated} over ROUNDS runs after one warm-up
+    private static long[] measure(Runnable validation) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        validation.run();
+
+        long nanos = 0;
+        long bytes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            validation.run();
+            nanos += System.nanoTime() - start;
+            bytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        return new long[]{nanos / ROUNDS, bytes / ROUNDS};
+    }
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import drivers.DriverPool;
+import fixtures.FixtureServer;
+import locators.LocatorStats;
+import org.openqa.selenium.WebDriver;
+import pages.HomePage;
+import pages.LoginPage;
+
+/**
+ * Runs a failed login, a successful login, the inventory checks and a logout on the local
+ * SauceDemo fixture, once with fresh lookups for every @FindBy access (-Dlocator.cache=false)
+ * and once with the cached locators, and counts the WebDriver commands each needs.
+ */
+public class LocatorCacheBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        FixtureServer.start();
+        System.setProperty("target", "local");
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        WebDriver pooled = DriverPool.getInstance().acquire(browserName);
+
+        CommandCounter commands = new CommandCounter();
+        WebDriver driver = commands.decorate(pooled);
+
+        try {
+            System.out.println("\n=== Locator Cache Benchmark (avg of " + ROUNDS + " rounds) ===");
+            System.out.printf("%-10s %12s %12s %8s %8s %8s%n", "mode", "commands", "ms", "hits", "misses", "stale");
+            for (String mode : new String[]{"uncached", "cached"}) {
+                System.setProperty("locator.cache", String.valueOf(mode.equals("cached")));
+                runScenario(driver); // warm-up
+                commands.reset();
+                LocatorStats.reset();
+
+                long start = System.nanoTime();
+                for (int round = 0; round < ROUNDS; round++) {
+                    runScenario(driver);
+                }
+                System.out.printf("%-10s %12.1f %12.1f %8d %8d %8d%n", mode,
+                        (double) commands.get() / ROUNDS, (System.nanoTime() - start) / 1e6 / ROUNDS,
+                        LocatorStats.getHits() / ROUNDS, LocatorStats.getMisses() / ROUNDS,
+                        LocatorStats.getStaleRefreshes() / ROUNDS);
+            }
+        } finally {
+            System.clearProperty("locator.cache");
+            DriverPool.getInstance().release(pooled);
+        }
+        System.exit(0);
+    }
+
+    private static void runScenario(WebDriver driver) {
+        LoginPage loginPage = new LoginPage(driver);
+        loginPage.navigateToLoginPage();
+        loginPage.isLoginPageDisplayed();
+
+        loginPage.enterUsername("invalid_user");
+        loginPage.enterPassword("secret_sauce");
+        loginPage.clickLoginButton();
+        loginPage.waitForErrorMessage();
+        loginPage.getErrorMessage();
+
+        loginPage.enterUsername("standard_user");
+        loginPage.enterPassword("secret_sauce");
+        loginPage.clickLoginButton();
+
+        HomePage homePage = new HomePage(driver);
+        homePage.isHomePageDisplayed();
+        homePage.getPageTitle();
+        homePage.getNumberOfProducts();
+        homePage.getProductNames();
+        homePage.isAppLogoDisplayed();
+        homePage.openMenu();
+        homePage.clickLogout();
+        loginPage.isLoginPageDisplayed();
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import drivers.DriverPool;
+import fixtures.FixtureServer;
+import org.openqa.selenium.WebDriver;
+import pages.LoginPage;
+
+/**
+ * Compares the keystroke path (wait, clear and sendKeys per field, then wait and click)
+ * with LoginPage.fastLogin on the local SauceDemo fixture, for a rejected, an empty and a
+ * successful login. Reports WebDriver commands and time per login, navigation excluded.
+ */
+public class LoginFastFillBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final String[][] LOGINS = {
+            {"invalid_user", "secret_sauce"},
+            {"", "secret_sauce"},
+            {"standard_user", "secret_sauce"}};
+
+    public static void main(String[] args) {
+        FixtureServer.start();
+        System.setProperty("target", "local");
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        WebDriver pooled = DriverPool.getInstance().acquire(browserName);
+        CommandCounter commands = new CommandCounter();
+        WebDriver driver = commands.decorate(pooled);
+
+        try {
+            System.out.println("\n=== Login Fast Fill Benchmark (avg of " + ROUNDS + " rounds) ===");
+            System.out.printf("%-12s %-16s %12s %12s%n", "mode", "username", "commands", "ms");
+            for (boolean fast : new boolean[]{false, true}) {
+                for (String[] login : LOGINS) {
+                    long totalCommands = 0;
+                    long totalNanos = 0;
+                    for (int round = 0; round <= ROUNDS; round++) {
+                        LoginPage loginPage = new LoginPage(driver);
+                        loginPage.navigateToLoginPage();
+                        commands.reset();
+
+                        long start = System.nanoTime();
+                        login(loginPage, fast, login[0], login[1]);
+                        // Round 0 is a warm-up
+                        if (round > 0) {
+                            totalNanos += System.nanoTime() - start;
+                            totalCommands += commands.get();
+                        }
+                    }
+                    System.out.printf("%-12s %-16s %12.1f %12.1f%n", fast ? "fast fill" : "keystrokes",
+                            login[0].isEmpty() ? "(empty)" : login[0], (double) totalCommands / ROUNDS, totalNanos / 1e6 / ROUNDS);
+                }
+            }
+        } finally {
+            DriverPool.getInstance().release(pooled);
+        }
+        System.exit(0);
+    }
+
+    private static void login(LoginPage loginPage, boolean fast, String username, String password) {
+        if (fast) {
+            loginPage.fastLogin(username, password);
+            return;
+        }
+        loginPage.enterUsername(username);
+        loginPage.enterPassword(password);
+        loginPage.clickLoginButton();
+        if (username.equals("standard_user")) {
+            loginPage.getCurrentUrl();
+        } else {
+            loginPage.waitForErrorMessage();
+        }
+    }
+}
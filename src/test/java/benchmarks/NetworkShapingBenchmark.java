@@ -0,0 +1,49 @@
+package benchmarks;
+
+import network.NetworkProfile;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs login.feature and inventory.feature against the local SauceDemo fixture with every
+ * network profile. The NONE runs are measured too and are the baseline for the
+ * "saved" columns in the network summary printed after each run.
+ *
+ * One unmeasured run of each profile warms up the JIT, the driver binaries and the step
+ * definitions first. Then -Dbenchmark.rounds (default 3) measured rounds follow, each starting
+ * with the next profile, and the median of each profile is compared.
+ */
+public class NetworkShapingBenchmark {
+
+    private static final String TAGS = "@smoke or @positive or @negative or @boundary";
+
+    public static void main(String[] args) {
+        System.setProperty("target", "local");
+        System.setProperty("network.stats", "true");
+        int rounds = Integer.getInteger("benchmark.rounds", 3);
+        NetworkProfile[] profiles = NetworkProfile.values();
+
+        for (NetworkProfile profile : profiles) {
+            runSuite(profile);
+        }
+
+        Map<NetworkProfile, List<Long>> timings = new EnumMap<>(NetworkProfile.class);
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < profiles.length; i++) {
+                NetworkProfile profile = profiles[(round + i) % profiles.length];
+                timings.computeIfAbsent(profile, k -> new ArrayList<>()).add(runSuite(profile));
+            }
+        }
+
+        System.out.println("\n=== Network Shaping Benchmark (local fixture, median of " + rounds + " rounds) ===");
+        timings.forEach((profile, millis) -> System.out.printf("%-7s %8d ms  %s%n", profile, SuiteTimer.median(millis), millis));
+        System.exit(0);
+    }
+
+    private static long runSuite(NetworkProfile profile) {
+        System.setProperty("network.profile", profile.name());
+        return SuiteTimer.run(TAGS);
+    }
+}
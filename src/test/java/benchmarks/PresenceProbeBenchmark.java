@@ -0,0 +1,58 @@
+package benchmarks;
+
+import drivers.DriverPool;
+import fixtures.FixtureServer;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import waits.ElementProbe;
+
+/**
+ * Compares an absent-element check through the implicit wait with ElementProbe, then
+ * times the @negative scenarios against the local SauceDemo fixture without probes
+ * (-Dwait.probe=off, the implicit wait as before) and with them, after one unmeasured warm-up run.
+ */
+public class PresenceProbeBenchmark {
+
+    private static final By ERROR_MESSAGE = By.cssSelector("[data-test='error']");
+
+    public static void main(String[] args) {
+        System.setProperty("target", "local");
+        String baseUrl = FixtureServer.start().getBaseUrl();
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+
+        WebDriver driver = DriverPool.getInstance().acquire(browserName);
+        long implicitMillis;
+        long probeMillis;
+        try {
+            driver.get(baseUrl);
+
+            long start = System.nanoTime();
+            try {
+                driver.findElement(ERROR_MESSAGE).isDisplayed();
+            } catch (NoSuchElementException e) {
+                // Expected, there is no error before the first login attempt
+            }
+            implicitMillis = (System.nanoTime() - start) / 1_000_000;
+
+            start = System.nanoTime();
+            ElementProbe.isPresent(driver, "errorMessage", ERROR_MESSAGE);
+            probeMillis = (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            DriverPool.getInstance().release(driver);
+        }
+
+        SuiteTimer.run("@negative");
+        System.setProperty("wait.probe", "off");
+        long baselineSuiteMillis = SuiteTimer.run("@negative");
+        System.setProperty("wait.probe", "on");
+        long probeSuiteMillis = SuiteTimer.run("@negative");
+
+        System.out.println("\n=== Presence Probe Benchmark (local fixture) ===");
+        System.out.println("Absent element via implicit wait: " + implicitMillis + " ms");
+        System.out.println("Absent element via ElementProbe:  " + probeMillis + " ms");
+        System.out.println("@negative, implicit wait:         " + baselineSuiteMillis + " ms");
+        System.out.println("@negative, ElementProbe:          " + probeSuiteMillis + " ms");
+        System.exit(0);
+    }
+}
@@ -0,0 +1,27 @@
+package benchmarks;
+
+import io.cucumber.core.cli.Main;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class SuiteTimer {
+
+    // Runs the scenarios matching the tag expression in this JVM and returns the wall-clock time in ms
+    public static long run(String tags) {
+        long start = System.nanoTime();
+        Main.run(new String[]{
+                "--plugin", "summary",
+                "--glue", "stepDefinitions",
+                "--tags", tags,
+                "classpath:features"
+        }, Thread.currentThread().getContextClassLoader());
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
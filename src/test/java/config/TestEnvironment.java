@@ -0,0 +1,38 @@
+package config;
+
+import fixtures.FixtureServer;
+
+/**
+ * Where the suites point. -Dtarget=local starts the in-process FixtureServer (once per JVM)
+ * and serves both SauceDemo and the user API from loopback; -Dtarget=remote (default) uses
+ * the real sites. -Dsaucedemo.url and -Dapi.baseUri override either base URL explicitly.
+ */
+public class TestEnvironment {
+
+    public static final String REMOTE_WEB_URL = "https://www.saucedemo.com/";
+    public static final String REMOTE_API_URI = "https://dummyapi.io";
+
+    public static boolean isLocal() {
+        return "local".equalsIgnoreCase(System.getProperty("target", "remote"));
+    }
+
+    public static String webBaseUrl() {
+        String override = System.getProperty("saucedemo.url");
+        if (override != null) {
+            return override;
+        }
+        return isLocal() ? FixtureServer.start().getBaseUrl() : REMOTE_WEB_URL;
+    }
+
+    public static String apiBaseUri() {
+        String override = System.getProperty("api.baseUri");
+        if (override != null) {
+            return override;
+        }
+        return isLocal() ? FixtureServer.start().getApiBaseUrl() : REMOTE_API_URI;
+    }
+
+    public static String apiAppId() {
+        return System.getProperty("api.appId", "63a804408eb0cb069b57e43a");
+    }
+}
@@ -0,0 +1,105 @@
+package context;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import pages.HomePage;
+import pages.LoginPage;
+import waits.ElementProbe;
+import waits.SmartWait;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logs each user in through the UI once per JVM, keeps the resulting cookies and
+ * local/session storage, and replays them into later sessions so scenarios that
+ * only need a logged-in user can start directly on the inventory page.
+ */
+public class LoginStateCache {
+
+    private static final String READ_STORAGE_SCRIPT =
+            "return Object.assign({}, arguments[0] === 'local' ? window.localStorage : window.sessionStorage);";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var storage = arguments[0] === 'local' ? window.localStorage : window.sessionStorage;"
+            + "var values = arguments[1];"
+            + "Object.keys(values).forEach(function (key) { storage.setItem(key, values[key]); });";
+
+    private static final String CLEAR_STORAGE_SCRIPT = "window.localStorage.clear(); window.sessionStorage.clear();";
+
+    private static final By INVENTORY = By.id("inventory_container");
+    private static final Duration RESTORE_TIMEOUT = Duration.ofSeconds(2);
+
+    private static final Map<String, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    public static void loginAs(WebDriver driver, String username, String password) {
+        LoginPage loginPage = new LoginPage(driver);
+        String key = loginPage.getBaseUrl() + "|" + username;
+
+        Snapshot snapshot = SNAPSHOTS.get(key);
+        if (snapshot != null) {
+            if (restore(driver, loginPage, snapshot)) {
+                return;
+            }
+            // Stale session cookies would otherwise be sent with the form login
+            SNAPSHOTS.remove(key, snapshot);
+            driver.get(loginPage.getBaseUrl());
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        }
+
+        loginThroughForm(driver, loginPage, username, password);
+        SNAPSHOTS.put(key, capture(driver));
+    }
+
+    public static void loginThroughForm(WebDriver driver, LoginPage loginPage, String username, String password) {
+        loginPage.navigateToLoginPage();
+        loginPage.enterUsername(username);
+        loginPage.enterPassword(password);
+        loginPage.clickLoginButton();
+
+        if (!new HomePage(driver).isHomePageDisplayed()) {
+            throw new IllegalStateException("Login through the form failed for user: " + username);
+        }
+    }
+
+    public static void clear() {
+        SNAPSHOTS.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Snapshot capture(WebDriver driver) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        return new Snapshot(
+                driver.manage().getCookies(),
+                (Map<String, Object>) js.executeScript(READ_STORAGE_SCRIPT, "local"),
+                (Map<String, Object>) js.executeScript(READ_STORAGE_SCRIPT, "session"));
+    }
+
+    private static boolean restore(WebDriver driver, LoginPage loginPage, Snapshot snapshot) {
+        // Cookies and storage can only be written while the browser is on the application's origin.
+        // The login page is used because no network profile blocks it (they do block favicon.ico)
+        driver.get(loginPage.getBaseUrl());
+        try {
+            snapshot.cookies().forEach(cookie -> driver.manage().addCookie(cookie));
+
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript(WRITE_STORAGE_SCRIPT, "local", snapshot.localStorage());
+            js.executeScript(WRITE_STORAGE_SCRIPT, "session", snapshot.sessionStorage());
+        } catch (WebDriverException e) {
+            return false;
+        }
+
+        driver.get(loginPage.getBaseUrl() + "inventory.html");
+        // A rejected session redirects to the login page, so a short probe is enough to tell
+        return new SmartWait(driver, RESTORE_TIMEOUT)
+                .isSatisfied("loginRestore", d -> ElementProbe.isPresent(d, "loginRestore", INVENTORY));
+    }
+
+    private record Snapshot(Set<Cookie> cookies, Map<String, Object> localStorage, Map<String, Object> sessionStorage) {
+    }
+}
@@ -0,0 +1,140 @@
+package context;
+
+import datasets.DatasetSummary;
+import drivers.BrowserContexts;
+import drivers.BrowserModeStats;
+import drivers.BrowserRouting;
+import drivers.DriverPool;
+import impact.ImpactDriverListener;
+import impact.ImpactRecorder;
+import network.NetworkProfile;
+import network.NetworkShaper;
+import network.NetworkStats;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import pages.HomePage;
+import pages.LoginPage;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Scenario-scoped state shared between step definition classes. Picocontainer
+ * creates one instance per scenario and injects it through the constructor, so
+ * scenarios running on different threads never see each other's driver or pages.
+ */
+public class TestContext {
+
+    private WebDriver driver;
+    private WebDriver pooledDriver;
+    private String browserName;
+    private long sessionStartNanos;
+    private LoginPage loginPage;
+    private HomePage homePage;
+    private NetworkShaper networkShaper;
+    private Set<String> scenarioTags = Set.of();
+    private DatasetSummary datasetSummary;
+
+    public void setScenarioTags(Collection<String> tags) {
+        scenarioTags = Set.copyOf(tags);
+    }
+
+    public boolean hasTag(String tag) {
+        return scenarioTags.contains(tag);
+    }
+
+    // Scenarios tagged @fast-fill, or with one of the tags in -Dlogin.fastFill (e.g. "@boundary,@negative"),
+    // fill and submit the login form with one script instead of typing into it
+    public boolean isFastFill() {
+        return hasTag("@fast-fill") || Arrays.stream(System.getProperty("login.fastFill", "").split(","))
+                .map(String::trim)
+                .anyMatch(this::hasTag);
+    }
+
+    // Scenarios tagged @login always use the real form; everything else reuses a cached login state
+    public void loginAs(String username, String password) {
+        if (hasTag("@login")) {
+            LoginStateCache.loginThroughForm(getDriver(), getLoginPage(), username, password);
+        } else {
+            LoginStateCache.loginAs(getDriver(), username, password);
+        }
+    }
+
+    public DatasetSummary getDatasetSummary() {
+        return datasetSummary;
+    }
+
+    public void setDatasetSummary(DatasetSummary datasetSummary) {
+        this.datasetSummary = datasetSummary;
+    }
+
+    public void startSession() {
+        if (driver == null) {
+            browserName = BrowserRouting.browserFor(scenarioTags);
+            sessionStartNanos = System.nanoTime();
+            if (BrowserContexts.isEnabled(browserName)) {
+                // Own browser context in a shared Chrome process; DevTools would reach the whole process, so no network shaping
+                browserName = BrowserContexts.MODE;
+                pooledDriver = BrowserContexts.getInstance().acquire();
+            } else {
+                pooledDriver = DriverPool.getInstance().acquire(browserName);
+                networkShaper = NetworkShaper.attach(pooledDriver, NetworkProfile.forScenario(scenarioTags));
+            }
+            // Page objects get a decorated driver while recording, so each call is attributed to the page method making it
+            driver = ImpactRecorder.isEnabled()
+                    ? new EventFiringDecorator<WebDriver>(new ImpactDriverListener()).decorate(pooledDriver)
+                    : pooledDriver;
+        }
+    }
+
+    public NetworkStats detachNetworkShaper(String scenarioName) {
+        if (networkShaper == null) {
+            return null;
+        }
+        NetworkStats stats = networkShaper.detach(scenarioName);
+        networkShaper = null;
+        return stats;
+    }
+
+    public void endSession() {
+        endSession(false);
+    }
+
+    // discard quits the browser instead of returning it to the pool, e.g. after a failure that may have left it in a bad state
+    public void endSession(boolean discard) {
+        detachNetworkShaper("unnamed scenario");
+        if (driver != null) {
+            BrowserModeStats.record(browserName, sessionStartNanos, System.nanoTime());
+            if (browserName.equals(BrowserContexts.MODE)) {
+                BrowserContexts.getInstance().release(pooledDriver);
+            } else if (discard) {
+                DriverPool.getInstance().invalidate(pooledDriver);
+            } else {
+                DriverPool.getInstance().release(pooledDriver);
+            }
+            driver = null;
+            pooledDriver = null;
+            loginPage = null;
+            homePage = null;
+        }
+    }
+
+    public WebDriver getDriver() {
+        startSession();
+        return driver;
+    }
+
+    public LoginPage getLoginPage() {
+        if (loginPage == null) {
+            loginPage = new LoginPage(getDriver());
+        }
+        return loginPage;
+    }
+
+    public HomePage getHomePage() {
+        if (homePage == null) {
+            homePage = new HomePage(getDriver());
+        }
+        return homePage;
+    }
+}
@@ -0,0 +1,46 @@
+package datasets;
+
+import apiAuto.UserApiRequests;
+import apiClient.ApiClient;
+import apiClient.ApiRequest;
+import java.util.Map;
+
+/**
+ * Sends one UserApiTest request per row and compares the status code. Columns: request
+ * (getAllUsers, getUserById, getUsersWithLimit, createUser or getUserPosts), the request's
+ * parameters (id, limit, firstName, lastName, email) and expectedStatus.
+ * All workers share one ApiClient and its connection pool.
+ */
+public class ApiDatasetHandler implements RowHandler {
+
+    private final ApiClient client;
+
+    public ApiDatasetHandler(ApiClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public RowResult check(Map<String, String> row) {
+        int statusCode = client.send(toRequest(row)).statusCode();
+        int expected = Integer.parseInt(row.getOrDefault("expectedStatus", "200"));
+        return new RowResult(row.get("request") + " -> HTTP " + statusCode, statusCode == expected);
+    }
+
+    static ApiRequest toRequest(Map<String, String> row) {
+        String request = row.getOrDefault("request", "");
+        switch (request) {
+            case "getAllUsers":
+                return UserApiRequests.getAllUsers();
+            case "getUserById":
+                return UserApiRequests.getUserById(row.get("id"));
+            case "getUsersWithLimit":
+                return UserApiRequests.getUsersWithLimit(Integer.parseInt(row.get("limit")));
+            case "createUser":
+                return UserApiRequests.createUser(row.get("firstName"), row.get("lastName"), row.get("email"));
+            case "getUserPosts":
+                return UserApiRequests.getUserPosts(row.get("id"));
+            default:
+                throw new IllegalArgumentException("Unknown request in dataset row: " + request);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package datasets;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Feeds dataset rows to parallel workers in batches. The reader only runs ahead of the
+ * workers by a few batches (the queue is bounded), so memory stays flat for any dataset size.
+ *
+ * System properties: dataset.workers (default: available processors), dataset.batchSize (default 50).
+ */
+public class BatchRunner {
+
+    private static final List<IndexedRow> END = List.of();
+
+    private record IndexedRow(long number, Map<String, String> row) {
+    }
+
+    public static DatasetSummary run(String name, Stream<Map<String, String>> rows, Supplier<RowHandler> handlers) {
+        return run(name, rows, handlers,
+                Integer.getInteger("dataset.workers", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("dataset.batchSize", 50));
+    }
+
+    public static DatasetSummary run(String name, Stream<Map<String, String>> rows, Supplier<RowHandler> handlers,
+                                     int workers, int batchSize) {
+        DatasetSummary summary = new DatasetSummary(name);
+        BlockingQueue<List<IndexedRow>> batches = new ArrayBlockingQueue<>(workers * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+
+        try (rows) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> work(batches, handlers, summary)));
+            }
+
+            Iterator<Map<String, String>> iterator = rows.iterator();
+            long number = 0;
+            List<IndexedRow> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(new IndexedRow(++number, iterator.next()));
+                if (batch.size() == batchSize) {
+                    batches.put(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batches.put(batch);
+            }
+            for (int i = 0; i < workers; i++) {
+                batches.put(END);
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running dataset " + name, e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Dataset worker failed for " + name, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        summary.setElapsedNanos(System.nanoTime() - start);
+        return summary;
+    }
+
+    private static Void work(BlockingQueue<List<IndexedRow>> batches, Supplier<RowHandler> handlers,
+                             DatasetSummary summary) throws InterruptedException {
+        RowHandler created;
+        try {
+            created = handlers.get();
+        } catch (RuntimeException e) {
+            // Keep draining the queue so the reader never blocks; every row of this worker fails with the cause
+            created = row -> {
+                throw e;
+            };
+        }
+        try (RowHandler handler = created) {
+            for (List<IndexedRow> batch = batches.take(); batch != END; batch = batches.take()) {
+                for (IndexedRow row : batch) {
+                    long rowStart = System.nanoTime();
+                    RowResult result;
+                    try {
+                        result = handler.check(row.row());
+                    } catch (RuntimeException e) {
+                        result = new RowResult("error: " + e.getClass().getSimpleName(), false);
+                    }
+                    summary.record(row.number(), row.row(), result, System.nanoTime() - rowStart);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,128 @@
+package datasets;
+
+import apiAuto.UserApiRequests;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Writes large datasets for the data-driven runs, streamed row by row:
+ * target/datasets/login-matrix.csv (credential matrix and boundary fuzz, with the expected
+ * SauceDemo result per row) and target/datasets/users.jsonl (UserApiTest requests with the
+ * expected status). -Ddataset.rows sets the number of rows per file (default 10,000).
+ */
+public class DatasetGenerator {
+
+    private static final String PASSWORD = "secret_sauce";
+    private static final String[] USERS = {"standard_user", "locked_out_user", "problem_user",
+            "performance_glitch_user", "error_user", "visual_user"};
+    private static final String[] ODD_INPUTS = {"", " ", "standard_user ", "STANDARD_USER", "' OR '1'='1",
+            "<script>alert(1)</script>", "用户", "ünïcödé", "null", "\\t"};
+
+    public static void main(String[] args) throws IOException {
+        int rows = Integer.getInteger("dataset.rows", 10_000);
+        File directory = new File("target/datasets");
+        directory.mkdirs();
+        Random random = new Random(42);
+
+        File logins = new File(directory, "login-matrix.csv");
+        try (BufferedWriter out = Files.newBufferedWriter(logins.toPath(), StandardCharsets.UTF_8)) {
+            out.write("username,password,expected\n");
+            for (int i = 0; i < rows; i++) {
+                String username = pick(random, USERS, i);
+                String password = pick(random, new String[]{PASSWORD}, i + 1);
+                out.write(csv(username) + "," + csv(password) + "," + csv(expectedLogin(username, password)) + "\n");
+            }
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        File users = new File(directory, "users.jsonl");
+        try (BufferedWriter out = Files.newBufferedWriter(users.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < rows; i++) {
+                out.write(mapper.writeValueAsString(apiRow(mapper, random, i)));
+                out.write("\n");
+            }
+        }
+
+        System.out.println("Wrote " + rows + " rows to " + logins + " and " + users);
+    }
+
+    // Every fourth value is a known-good one, the rest are fuzz: odd inputs, random text and long strings
+    private static String pick(Random random, String[] valid, int i) {
+        switch (i % 4) {
+            case 0:
+            case 1:
+                return valid[random.nextInt(valid.length)];
+            case 2:
+                return ODD_INPUTS[random.nextInt(ODD_INPUTS.length)];
+            default:
+                return randomText(random, 1 + random.nextInt(random.nextBoolean() ? 20 : 300));
+        }
+    }
+
+    // Mirrors the messages of the SauceDemo login form
+    private static String expectedLogin(String username, String password) {
+        if (username.isEmpty()) {
+            return "Username is required";
+        } else if (password.isEmpty()) {
+            return "Password is required";
+        } else if (!isKnownUser(username) || !password.equals(PASSWORD)) {
+            return "Username and password do not match";
+        } else if (username.equals("locked_out_user")) {
+            return "Sorry, this user has been locked out.";
+        }
+        return "success";
+    }
+
+    private static boolean isKnownUser(String username) {
+        for (String user : USERS) {
+            if (user.equals(username)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ObjectNode apiRow(ObjectMapper mapper, Random random, int i) {
+        ObjectNode row = mapper.createObjectNode();
+        switch (i % 6) {
+            case 0:
+                return row.put("request", "getUserById").put("id", UserApiRequests.SAMPLE_USER_ID).put("expectedStatus", 200);
+            case 1:
+                // Well-formed but unknown id
+                return row.put("request", "getUserById").put("id", String.format("%024x", random.nextLong() & Long.MAX_VALUE))
+                        .put("expectedStatus", 404);
+            case 2:
+                return row.put("request", "getUserById").put("id", randomText(random, 1 + random.nextInt(30)).replaceAll("[^A-Za-z0-9]", "x"))
+                        .put("expectedStatus", 400);
+            case 3:
+                return row.put("request", "getUsersWithLimit").put("limit", 5 + random.nextInt(46)).put("expectedStatus", 200);
+            case 4:
+                return row.put("request", "getUserPosts").put("id", UserApiRequests.SAMPLE_POSTS_USER_ID).put("expectedStatus", 200);
+            default:
+                return row.put("request", "createUser").put("firstName", "Data" + i).put("lastName", "Driven")
+                        .put("email", "data.driven." + i + "." + random.nextInt(1_000_000) + "@example.com")
+                        .put("expectedStatus", 200);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append((char) (random.nextBoolean() ? 'a' + random.nextInt(26) : '!' + random.nextInt(94)));
+        }
+        return text.toString();
+    }
+
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.startsWith(" ") || value.endsWith(" ")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
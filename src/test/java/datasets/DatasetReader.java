@@ -0,0 +1,118 @@
+package datasets;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams the rows of a CSV (first line is the header) or JSONL dataset one at a time,
+ * so a dataset of any size costs one row of memory. The location is a file path or,
+ * if no such file exists, a classpath resource. Close the stream when done.
+ */
+public class DatasetReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, Object>> ROW = new TypeReference<>() { };
+
+    public static Stream<Map<String, String>> open(String location) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input(location), StandardCharsets.UTF_8));
+        Stream<Map<String, String>> rows;
+        if (location.endsWith(".csv")) {
+            List<String> header = parseCsvLine(readHeader(reader, location));
+            rows = reader.lines().filter(line -> !line.isBlank()).map(line -> toRow(header, parseCsvLine(line)));
+        } else if (location.endsWith(".jsonl") || location.endsWith(".ndjson")) {
+            rows = reader.lines().filter(line -> !line.isBlank()).map(DatasetReader::parseJsonLine);
+        } else {
+            throw new IllegalArgumentException("Dataset format not supported (use .csv or .jsonl): " + location);
+        }
+        return rows.onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static InputStream input(String location) {
+        try {
+            return new FileInputStream(location);
+        } catch (IOException e) {
+            InputStream resource = DatasetReader.class.getClassLoader().getResourceAsStream(location);
+            if (resource == null) {
+                throw new IllegalArgumentException("Dataset not found as file or classpath resource: " + location);
+            }
+            return resource;
+        }
+    }
+
+    private static String readHeader(BufferedReader reader, String location) {
+        try {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Empty dataset: " + location);
+            }
+            return header;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + location, e);
+        }
+    }
+
+    private static Map<String, String> toRow(List<String> header, List<String> values) {
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            row.put(header.get(i), i < values.size() ? values.get(i) : "");
+        }
+        return row;
+    }
+
+    private static Map<String, String> parseJsonLine(String line) {
+        try {
+            Map<String, String> row = new LinkedHashMap<>();
+            MAPPER.readValue(line, ROW).forEach((key, value) -> row.put(key, value == null ? "" : String.valueOf(value)));
+            return row;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid JSONL row: " + line, e);
+        }
+    }
+
+    // RFC 4180 fields: quoted fields may contain commas, "" is an escaped quote
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
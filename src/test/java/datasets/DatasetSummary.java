@@ -0,0 +1,78 @@
+package datasets;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated result of a dataset run: counts per outcome, pass/fail totals, a latency
+ * histogram and the first failing rows, instead of one report entry per row.
+ */
+public class DatasetSummary {
+
+    private static final int MAX_FAILURES_KEPT = 20;
+
+    private final String name;
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(3);
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+    private volatile long elapsedNanos;
+
+    DatasetSummary(String name) {
+        this.name = name;
+    }
+
+    void record(long rowNumber, Map<String, String> row, RowResult result, long latencyNanos) {
+        outcomes.computeIfAbsent(result.outcome(), k -> new LongAdder()).increment();
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (result.passed()) {
+            passed.increment();
+        } else {
+            failed.increment();
+            if (failures.size() < MAX_FAILURES_KEPT) {
+                failures.add("row " + rowNumber + " " + row + " -> " + result.outcome());
+            }
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRows() {
+        return passed.sum() + failed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public List<String> getFailures() {
+        return List.copyOf(failures);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("=== Dataset %s: %d rows, %d passed, %d failed in %.1f s (%.0f rows/s) ===%n",
+                name, getRows(), passed.sum(), failed.sum(), elapsedNanos / 1e9,
+                elapsedNanos == 0 ? 0 : getRows() / (elapsedNanos / 1e9)));
+        out.append(String.format("latency ms: p50 %.1f, p95 %.1f, p99 %.1f, max %.1f%n",
+                latencyMicros.getValueAtPercentile(50) / 1000.0, latencyMicros.getValueAtPercentile(95) / 1000.0,
+                latencyMicros.getValueAtPercentile(99) / 1000.0, latencyMicros.getMaxValue() / 1000.0));
+        new TreeMap<>(outcomes).forEach((outcome, count) ->
+                out.append(String.format("%8d  %s%n", count.sum(), outcome)));
+        if (!failures.isEmpty()) {
+            out.append("First failures:").append(System.lineSeparator());
+            getFailures().forEach(failure -> out.append("  ").append(failure).append(System.lineSeparator()));
+        }
+        return out.toString();
+    }
+}
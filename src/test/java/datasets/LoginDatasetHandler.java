@@ -0,0 +1,60 @@
+package datasets;
+
+import drivers.BrowserRouting;
+import drivers.DriverPool;
+import org.openqa.selenium.WebDriver;
+import pages.LoginPage;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Tries one login per row through LoginPage.fastLogin. Columns: username, password and
+ * expected ("success" or a part of the expected error message).
+ *
+ * The first handler reuses the scenario's own browser session; the others borrow one from
+ * DriverPool for the length of the run.
+ */
+public class LoginDatasetHandler implements RowHandler {
+
+    private final WebDriver driver;
+    private final boolean pooled;
+    private final LoginPage loginPage;
+
+    private LoginDatasetHandler(WebDriver driver, boolean pooled) {
+        this.driver = driver;
+        this.pooled = pooled;
+        this.loginPage = new LoginPage(driver);
+    }
+
+    public static Supplier<RowHandler> factory(WebDriver scenarioDriver) {
+        String browserName = BrowserRouting.browserFor(Set.of("@dataset"));
+        AtomicBoolean sharedTaken = new AtomicBoolean();
+        return () -> sharedTaken.compareAndSet(false, true)
+                ? new LoginDatasetHandler(scenarioDriver, false)
+                : new LoginDatasetHandler(DriverPool.getInstance().acquire(browserName), true);
+    }
+
+    @Override
+    public RowResult check(Map<String, String> row) {
+        String expected = row.getOrDefault("expected", "success");
+        loginPage.navigateToLoginPage();
+        loginPage.fastLogin(row.getOrDefault("username", ""), row.getOrDefault("password", ""));
+
+        if (loginPage.getCurrentUrl().contains("inventory.html")) {
+            // Log out again so the next row starts anonymous
+            driver.manage().deleteAllCookies();
+            return new RowResult("success", expected.equals("success"));
+        }
+        String error = loginPage.getErrorMessage();
+        return new RowResult(error.isEmpty() ? "no result" : error, !expected.equals("success") && error.contains(expected));
+    }
+
+    @Override
+    public void close() {
+        if (pooled) {
+            DriverPool.getInstance().release(driver);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package datasets;
+
+import java.util.Map;
+
+/**
+ * Checks dataset rows on one worker thread. Each worker gets its own handler, so a
+ * handler may hold a browser session or other per-thread state until close().
+ */
+public interface RowHandler extends AutoCloseable {
+
+    RowResult check(Map<String, String> row);
+
+    @Override
+    default void close() {
+    }
+}
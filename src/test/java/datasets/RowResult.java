@@ -0,0 +1,8 @@
+package datasets;
+
+/**
+ * Outcome of one dataset row; {@code outcome} is what actually happened (e.g. "success",
+ * an error message or "HTTP 404") and is what the summary groups by.
+ */
+public record RowResult(String outcome, boolean passed) {
+}
@@ -0,0 +1,265 @@
+package drivers;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs several scenarios in one Chrome process. Every scenario gets its own CDP browser context
+ * (Target.createBrowserContext: separate cookies, storage and cache, like an incognito window)
+ * behind a WebDriver handle. -Dbrowser.contexts=N enables it with N contexts per Chrome process;
+ * another process is started when all of them are in use.
+ *
+ * The handles of one process share its WebDriver session, so their commands take turns and each
+ * turn first switches the session to the context's window. Implicit waits are emulated per handle
+ * by polling between turns, so a waiting scenario does not hold up the others. A frame selected in
+ * one context is reset when another context takes a turn.
+ */
+public class BrowserContexts {
+
+    public static final String MODE = "chrome-contexts";
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final BrowserContexts INSTANCE = new BrowserContexts(Integer.getInteger("browser.contexts", 0));
+
+    private final int contextsPerBrowser;
+    private final List<Host> hosts = new ArrayList<>();
+    private final Map<WebDriver, Context> handles = new ConcurrentHashMap<>();
+    private final AtomicInteger peakContexts = new AtomicInteger();
+    private final AtomicLong peakBrowserBytes = new AtomicLong();
+    private final AtomicLong contextsCreated = new AtomicLong();
+
+    private BrowserContexts(int contextsPerBrowser) {
+        this.contextsPerBrowser = contextsPerBrowser;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    public static BrowserContexts getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled(String browserName) {
+        return INSTANCE.contextsPerBrowser > 0 && browserName.equals("chrome");
+    }
+
+    public WebDriver acquire() {
+        Host host = hostWithRoom();
+        Context context = host.createContext();
+        WebDriver handle = new ContextDecorator(context).decorate(host.driver);
+        handles.put(handle, context);
+        contextsCreated.incrementAndGet();
+        peakContexts.accumulateAndGet(handles.size(), Math::max);
+        peakBrowserBytes.accumulateAndGet(BrowserModeStats.childProcessBytes(), Math::max);
+        return handle;
+    }
+
+    public void release(WebDriver handle) {
+        Context context = handles.remove(handle);
+        if (context != null) {
+            context.host().dispose(context);
+        }
+    }
+
+    public int liveContexts() {
+        return handles.size();
+    }
+
+    public static void printSummary() {
+        if (INSTANCE.contextsCreated.get() == 0) {
+            return;
+        }
+        double peakGb = INSTANCE.peakBrowserBytes.get() / 1e9;
+        System.out.println("\n=== Browser Context Density ===");
+        System.out.println("Chrome processes: " + INSTANCE.hosts.size() + " (up to " + INSTANCE.contextsPerBrowser + " contexts each)");
+        System.out.println("Contexts created: " + INSTANCE.contextsCreated.get() + ", peak concurrent: " + INSTANCE.peakContexts.get());
+        System.out.printf("Peak browser RSS: %.1f MB, %.1f MB per concurrent scenario, %.1f concurrent scenarios per GB%n",
+                peakGb * 1000, peakGb * 1000 / Math.max(1, INSTANCE.peakContexts.get()),
+                peakGb == 0 ? 0 : INSTANCE.peakContexts.get() / peakGb);
+    }
+
+    private synchronized Host hostWithRoom() {
+        Host host = hosts.stream()
+                .filter(candidate -> candidate.contexts.get() < contextsPerBrowser)
+                .min(Comparator.comparingInt(candidate -> candidate.contexts.get()))
+                .orElse(null);
+        if (host == null) {
+            WebDriver driver = DriverFactory.createDriver("chrome", DriverFactory.createOptions("chrome"));
+            if (!(driver instanceof HasCdp)) {
+                DriverFactory.quit(driver);
+                throw new IllegalStateException("Browser contexts need a local Chrome session (not available with a grid)");
+            }
+            // Implicit waits are emulated per handle; a session-wide wait would hold every context's turn
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            host = new Host(driver);
+            hosts.add(host);
+        }
+        host.contexts.incrementAndGet();
+        return host;
+    }
+
+    private synchronized void shutdown() {
+        hosts.forEach(host -> DriverFactory.quit(host.driver));
+        hosts.clear();
+    }
+
+    private record Context(Host host, String browserContextId, String window) {
+    }
+
+    private static class Host {
+        private final WebDriver driver;
+        private final String defaultWindow;
+        private final ReentrantLock turn = new ReentrantLock(true);
+        private final AtomicInteger contexts = new AtomicInteger();
+        private Context current;
+
+        Host(WebDriver driver) {
+            this.driver = driver;
+            this.defaultWindow = driver.getWindowHandle();
+        }
+
+        Context createContext() {
+            turn.lock();
+            try {
+                HasCdp cdp = (HasCdp) driver;
+                String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext", Map.of()).get("browserContextId");
+                Set<String> before = driver.getWindowHandles();
+                cdp.executeCdpCommand("Target.createTarget", Map.of("url", "about:blank", "browserContextId", contextId));
+                Set<String> added = new HashSet<>(driver.getWindowHandles());
+                added.removeAll(before);
+                return new Context(this, contextId, added.iterator().next());
+            } catch (RuntimeException e) {
+                contexts.decrementAndGet();
+                throw e;
+            } finally {
+                turn.unlock();
+            }
+        }
+
+        void dispose(Context context) {
+            turn.lock();
+            try {
+                ((HasCdp) driver).executeCdpCommand("Target.disposeBrowserContext",
+                        Map.of("browserContextId", context.browserContextId()));
+                // Keep the session on a window that still exists
+                driver.switchTo().window(defaultWindow);
+                current = null;
+            } catch (WebDriverException e) {
+                System.err.println("Could not dispose browser context: " + e.getMessage());
+            } finally {
+                contexts.decrementAndGet();
+                turn.unlock();
+            }
+        }
+
+        // Called with the turn held
+        void activate(Context context) {
+            if (current != context) {
+                driver.switchTo().window(context.window());
+                current = context;
+            }
+        }
+    }
+
+    /** Routes every call of one handle (and of the elements, options etc. it returns) through its context's turn. */
+    private class ContextDecorator extends WebDriverDecorator<WebDriver> {
+
+        private final Context context;
+        private volatile Duration implicitWait = DriverFactory.IMPLICIT_WAIT;
+
+        ContextDecorator(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Object original = target.getOriginal();
+            String name = method.getName();
+
+            if (original instanceof WebDriver.Timeouts) {
+                if (name.equals("implicitlyWait") && args.length == 1 && args[0] instanceof Duration duration) {
+                    implicitWait = duration;
+                    return original;
+                }
+                if (name.equals("getImplicitWaitTimeout")) {
+                    return implicitWait;
+                }
+            }
+            if (original instanceof WebDriver) {
+                switch (name) {
+                    case "quit", "close" -> {
+                        WebDriver handle = findHandle();
+                        if (handle != null) {
+                            release(handle);
+                        }
+                        return null;
+                    }
+                    case "getWindowHandle" -> {
+                        return context.window();
+                    }
+                    case "getWindowHandles" -> {
+                        return Set.of(context.window());
+                    }
+                    default -> {
+                    }
+                }
+            }
+            if (name.equals("findElement") || name.equals("findElements")) {
+                return findWithImplicitWait(target, method, args);
+            }
+            return callInContext(target, method, args);
+        }
+
+        private Object callInContext(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            Host host = context.host();
+            host.turn.lock();
+            try {
+                host.activate(context);
+                return decorateResult(method.invoke(target.getOriginal(), args));
+            } finally {
+                host.turn.unlock();
+            }
+        }
+
+        // Polls with the turn released between attempts, so other contexts can use the browser while this one waits
+        private Object findWithImplicitWait(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            long deadline = System.nanoTime() + implicitWait.toNanos();
+            while (true) {
+                try {
+                    Object result = callInContext(target, method, args);
+                    if (!(result instanceof List<?> list && list.isEmpty()) || System.nanoTime() >= deadline) {
+                        return result;
+                    }
+                } catch (InvocationTargetException e) {
+                    if (!(e.getTargetException() instanceof NoSuchElementException) || System.nanoTime() >= deadline) {
+                        throw e;
+                    }
+                }
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            }
+        }
+
+        private WebDriver findHandle() {
+            return handles.entrySet().stream()
+                    .filter(entry -> entry.getValue() == context)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package drivers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scenario throughput and memory per worker for each browser, shared by all threads.
+ *
+ * Memory per worker is sampled when a scenario ends: this JVM's share (resident set divided by
+ * all live sessions) plus, for real browsers, the resident set of the driver and browser
+ * processes started by this JVM divided by the real-browser sessions (or, for chrome-contexts, by
+ * the browser contexts sharing those processes). HtmlUnit lives in the JVM,
+ * so its sessions only have the JVM share. The resident sets come from /proc on Linux; on other
+ * systems the JVM share falls back to the used heap and browser processes are not counted.
+ */
+public class BrowserModeStats {
+
+    private static final Map<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    public static void record(String browserName, long startNanos, long endNanos) {
+        DriverPool pool = DriverPool.getInstance();
+        int contexts = BrowserContexts.getInstance().liveContexts();
+        int sessions = pool.sessionCount(null) + contexts;
+        long perWorker = jvmBytes() / Math.max(1, sessions);
+        if (browserName.equals(BrowserContexts.MODE)) {
+            perWorker += childProcessBytes() / Math.max(1, contexts);
+        } else if (!browserName.equals(BrowserRouting.HTMLUNIT)) {
+            perWorker += childProcessBytes() / Math.max(1, sessions - contexts - pool.sessionCount(BrowserRouting.HTMLUNIT));
+        }
+        STATS.computeIfAbsent(browserName, k -> new Stat()).add(startNanos, endNanos, perWorker);
+    }
+
+    // Drops what warm-up runs recorded
+    public static void clear() {
+        STATS.clear();
+    }
+
+    public static void printSummary() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Browser Mode Summary ===");
+        System.out.printf("%-10s %10s %12s %14s %16s%n", "browser", "scenarios", "avg ms", "scenarios/s", "peak MB/worker");
+        new TreeMap<>(STATS).forEach((browser, stat) -> System.out.printf("%-10s %10d %12.1f %14.2f %16.1f%n",
+                browser, stat.getCount(), stat.getAverageMillis(), stat.getScenariosPerSecond(), stat.getPeakBytesPerWorker() / 1e6));
+    }
+
+    private static long jvmBytes() {
+        long rss = residentBytes(ProcessHandle.current().pid());
+        if (rss > 0) {
+            return rss;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Driver and browser processes started by this JVM
+    public static long childProcessBytes() {
+        return ProcessHandle.current().descendants()
+                .mapToLong(process -> residentBytes(process.pid()))
+                .sum();
+    }
+
+    // VmRSS from /proc/<pid>/status, 0 where it is not available
+    private static long residentBytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or the process has just exited
+        }
+        return 0;
+    }
+
+    public static class Stat {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong peakBytesPerWorker = new AtomicLong();
+
+        void add(long startNanos, long endNanos, long bytesPerWorker) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(endNanos - startNanos);
+            firstStart.accumulateAndGet(startNanos, Math::min);
+            lastEnd.accumulateAndGet(endNanos, Math::max);
+            peakBytesPerWorker.accumulateAndGet(bytesPerWorker, Math::max);
+        }
+
+        public long getCount() { return count.get(); }
+
+        public long getPeakBytesPerWorker() { return peakBytesPerWorker.get(); }
+
+        public double getAverageMillis() {
+            long n = count.get();
+            return n == 0 ? 0 : totalNanos.get() / 1e6 / n;
+        }
+
+        // Over the wall-clock span from the first scenario start to the last scenario end of this browser
+        public double getScenariosPerSecond() {
+            long span = lastEnd.get() - firstStart.get();
+            return span <= 0 ? 0 : count.get() / (span / 1e9);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package drivers;
+
+import org.openqa.selenium.WebDriver;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Pre-warmed browser profiles. The first session of a browser builds a template profile in
+ * target/browser-profiles/<browser>-template (-Dbrowser.profile.dir to change) by starting the
+ * browser once on it, so first-run setup, the disk cache and the compiled scripts of the site
+ * under test are already there. Every session then starts on its own copy of the template, which
+ * is deleted when the session quits. Templates older than browser.profile.ttlHours (default 24)
+ * are rebuilt.
+ *
+ * Off by default (-Dbrowser.profile.template=true to enable): copying the whole template for every
+ * session has not been measured against starting on an empty profile. DriverStartBenchmark
+ * compares both before this becomes the default.
+ */
+public class BrowserProfiles {
+
+    private static final Map<String, Path> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Path> SESSION_PROFILES = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("browser.profile.template", "false"));
+    }
+
+    /**
+     * Returns a new copy of the template for this browser, building the template first with
+     * warmUp (which starts the browser on the given directory) if it is missing or stale.
+     */
+    public static Path newSessionProfile(String browserName, Consumer<Path> warmUp) {
+        Path template = TEMPLATES.computeIfAbsent(browserName, name -> buildTemplate(name, warmUp));
+        Path copy = root().resolve("sessions").resolve(browserName + "-" + UUID.randomUUID());
+        try (Stream<Path> files = Files.walk(template)) {
+            for (Path source : (Iterable<Path>) files::iterator) {
+                // Lock files and sockets belong to the browser that built the template
+                if (Files.isSymbolicLink(source) || source.getFileName().toString().startsWith("Singleton")
+                        || source.getFileName().toString().equals("parent.lock") || source.getFileName().toString().equals("lock")) {
+                    continue;
+                }
+                Path target = copy.resolve(template.relativize(source).toString());
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy profile template " + template, e);
+        }
+        return copy;
+    }
+
+    public static void register(WebDriver driver, Path profile) {
+        if (profile != null) {
+            SESSION_PROFILES.put(driver, profile);
+        }
+    }
+
+    // Called after the session has quit
+    public static void discard(WebDriver driver) {
+        Path profile = SESSION_PROFILES.remove(driver);
+        if (profile != null) {
+            delete(profile);
+        }
+    }
+
+    // For a session profile whose browser never started
+    public static void discard(Path profile) {
+        if (profile != null) {
+            delete(profile);
+        }
+    }
+
+    private static Path buildTemplate(String browserName, Consumer<Path> warmUp) {
+        Path template = root().resolve(browserName + "-template");
+        File marker = template.resolve(".warmed").toFile();
+        long maxAge = Duration.ofHours(Long.getLong("browser.profile.ttlHours", 24)).toMillis();
+        if (marker.exists() && System.currentTimeMillis() - marker.lastModified() < maxAge) {
+            return template;
+        }
+
+        long start = System.nanoTime();
+        delete(template);
+        try {
+            Files.createDirectories(template);
+            warmUp.accept(template);
+            Files.createFile(marker.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not build profile template " + template, e);
+        }
+        System.out.println("Built " + browserName + " profile template in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return template;
+    }
+
+    private static Path root() {
+        return Path.of(System.getProperty("browser.profile.dir", "target/browser-profiles")).toAbsolutePath();
+    }
+
+    private static void delete(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Could not delete browser profile " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package drivers;
+
+import config.TestEnvironment;
+import network.NetworkProfile;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Picks the browser for a scenario from -Dbrowser (default chrome).
+ *
+ * -Dbrowser=htmlunit runs scenarios on the in-JVM HtmlUnit driver, with no driver binary or
+ * browser process. Scenarios that need a real rendering engine go to -Dhtmlunit.fallback
+ * (default chrome) instead:
+ * - scenarios tagged @real-browser, or with one of the tags in -Dhtmlunit.fallbackTags
+ * - scenarios with a network profile, because NetworkShaper needs Chrome DevTools
+ * - every scenario, if the compatibility check finds that HtmlUnit cannot run the login page
+ *   of the target site (checked once per JVM)
+ */
+public class BrowserRouting {
+
+    public static final String HTMLUNIT = "htmlunit";
+
+    private static volatile Boolean htmlUnitCompatible;
+
+    public static String browserFor(Collection<String> tags) {
+        String browserName = System.getProperty("browser", "chrome").toLowerCase();
+        if (!browserName.equals(HTMLUNIT)) {
+            return browserName;
+        }
+        String fallback = System.getProperty("htmlunit.fallback", "chrome").toLowerCase();
+        boolean needsRealBrowser = tags.contains("@real-browser")
+                || Arrays.stream(System.getProperty("htmlunit.fallbackTags", "").split(","))
+                        .map(String::trim)
+                        .anyMatch(tags::contains)
+                || NetworkProfile.forScenario(tags) != NetworkProfile.NONE;
+        return needsRealBrowser || !isHtmlUnitCompatible() ? fallback : HTMLUNIT;
+    }
+
+    // Loads the login page once and checks that its script rendered the form and that the native
+    // value setter LoginPage.fastLogin relies on exists
+    static synchronized boolean isHtmlUnitCompatible() {
+        if (htmlUnitCompatible == null) {
+            WebDriver driver = DriverPool.getInstance().acquire(HTMLUNIT);
+            boolean compatible = false;
+            try {
+                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
+                driver.get(TestEnvironment.webBaseUrl());
+                compatible = !driver.findElements(By.id("user-name")).isEmpty()
+                        && !driver.findElements(By.id("login-button")).isEmpty()
+                        && Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(
+                                "return typeof Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set === 'function';"));
+            } catch (WebDriverException e) {
+                System.err.println("HtmlUnit compatibility check failed: " + e.getMessage());
+            } finally {
+                DriverPool.getInstance().release(driver);
+            }
+            if (!compatible) {
+                System.err.println("HtmlUnit cannot run " + TestEnvironment.webBaseUrl()
+                        + ", routing every scenario to " + System.getProperty("htmlunit.fallback", "chrome"));
+            }
+            htmlUnitCompatible = compatible;
+        }
+        return htmlUnitCompatible;
+    }
+}
@@ -0,0 +1,110 @@
+package drivers;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves each driver binary once per JVM and remembers it in
+ * target/webdriver-cache/drivers.properties (-Ddriver.cache.dir to change), so later runs start
+ * the driver without asking WebDriverManager for versions or downloads. A remembered binary is
+ * resolved again after driver.cache.ttlHours (default 24), unless -Ddriver.offline=true, and
+ * whenever the browser refuses it (see DriverFactory). An explicit -Dwebdriver.chrome.driver or
+ * -Dwebdriver.gecko.driver is used as is.
+ */
+public class DriverBinaries {
+
+    private static final Map<String, String> DRIVER_PROPERTIES = Map.of(
+            "chrome", "webdriver.chrome.driver",
+            "firefox", "webdriver.gecko.driver");
+
+    private static final Map<String, Binary> RESOLVED = new ConcurrentHashMap<>();
+
+    private record Binary(String path, boolean fromCache) {
+    }
+
+    // ensure, invalidate and resolve share the class lock only, so a retry after a browser update
+    // cannot hold a map lock while another thread waits for it
+    public static synchronized void ensure(String browserName) {
+        if (!RESOLVED.containsKey(browserName)) {
+            RESOLVED.put(browserName, resolve(browserName));
+        }
+    }
+
+    // True when the binary of this JVM came from the cache file rather than from a fresh resolution
+    public static boolean isFromCache(String browserName) {
+        Binary binary = RESOLVED.get(browserName);
+        return binary != null && binary.fromCache();
+    }
+
+    public static synchronized void invalidate(String browserName) {
+        RESOLVED.remove(browserName);
+        System.clearProperty(DRIVER_PROPERTIES.get(browserName));
+        Properties cache = load();
+        cache.remove(browserName + ".path");
+        cache.remove(browserName + ".resolvedAt");
+        store(cache);
+    }
+
+    private static Binary resolve(String browserName) {
+        String property = DRIVER_PROPERTIES.get(browserName);
+        String explicit = System.getProperty(property);
+        if (explicit != null) {
+            return new Binary(explicit, false);
+        }
+
+        Properties cache = load();
+        String cachedPath = cache.getProperty(browserName + ".path");
+        long age = System.currentTimeMillis() - Long.parseLong(cache.getProperty(browserName + ".resolvedAt", "0"));
+        boolean current = Boolean.getBoolean("driver.offline")
+                || age < Duration.ofHours(Long.getLong("driver.cache.ttlHours", 24)).toMillis();
+        if (cachedPath != null && current && new File(cachedPath).canExecute()) {
+            System.setProperty(property, cachedPath);
+            return new Binary(cachedPath, true);
+        }
+
+        WebDriverManager manager = browserName.equals("firefox") ? WebDriverManager.firefoxdriver() : WebDriverManager.chromedriver();
+        manager.cachePath(new File(cacheDir(), "binaries").getPath()).setup();
+        String path = manager.getDownloadedDriverPath();
+        System.setProperty(property, path);
+        cache.setProperty(browserName + ".path", path);
+        cache.setProperty(browserName + ".resolvedAt", String.valueOf(System.currentTimeMillis()));
+        store(cache);
+        return new Binary(path, false);
+    }
+
+    private static File cacheDir() {
+        return new File(System.getProperty("driver.cache.dir", "target/webdriver-cache"));
+    }
+
+    private static Properties load() {
+        Properties cache = new Properties();
+        File file = new File(cacheDir(), "drivers.properties");
+        if (file.exists()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                cache.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read driver cache " + file, e);
+            }
+        }
+        return cache;
+    }
+
+    private static void store(Properties cache) {
+        File file = new File(cacheDir(), "drivers.properties");
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            cache.store(out, "Resolved WebDriver binaries, see DriverBinaries");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write driver cache " + file, e);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package drivers;
+
+import config.TestEnvironment;
+import grid.NodeScheduler;
+import metrics.LatencyMetrics;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import waits.WaitBudgets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates browser sessions. Driver binaries come from DriverBinaries (resolved once, cached
+ * across runs) and, with -Dbrowser.profile.template=true, every session starts on a copy of a
+ * pre-warmed profile (BrowserProfiles).
+ * Start latency is recorded as webtest_driver_start_duration_seconds with start="cold" for the
+ * first session of a browser in this JVM (binary resolution and template build included) and
+ * start="warm" for the others.
+ *
+ * With -Dgrid.nodes or -Dgrid.local, Chrome and Firefox sessions are RemoteWebDrivers on the node
+ * NodeScheduler picks; the nodes manage their own driver binaries and profiles.
+ */
+public class DriverFactory {
+
+    public static final Duration IMPLICIT_WAIT = Duration.ofSeconds(10);
+    public static final Duration PAGE_LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Set<String> STARTED = ConcurrentHashMap.newKeySet();
+
+    public static Capabilities createOptions(String browserName) {
+        switch (browserName) {
+            case "chrome":
+                ChromeOptions chromeOptions = new ChromeOptions();
+                chromeOptions.addArguments("--no-sandbox");
+                chromeOptions.addArguments("--disable-dev-shm-usage");
+                // Since Chrome 132 plain --headless is the new headless mode; the old one ships separately as chrome-headless-shell
+                chromeOptions.addArguments("--headless");
+                chromeOptions.addArguments("--window-size=1920,1080");
+                // Skip the work a fresh Chrome does at startup that no test needs
+                chromeOptions.addArguments("--disable-gpu");
+                chromeOptions.addArguments("--disable-extensions");
+                chromeOptions.addArguments("--no-first-run");
+                chromeOptions.addArguments("--no-default-browser-check");
+                chromeOptions.addArguments("--disable-background-networking");
+                chromeOptions.addArguments("--disable-component-update");
+                chromeOptions.addArguments("--disable-default-apps");
+                chromeOptions.addArguments("--disable-sync");
+                chromeOptions.addArguments("--metrics-recording-only");
+                chromeOptions.addArguments("--mute-audio");
+                chromeOptions.addArguments("--password-store=basic");
+                chromeOptions.addArguments("--use-mock-keychain");
+                chromeOptions.addArguments("--disable-features=Translate,OptimizationHints,MediaRouter");
+                return chromeOptions;
+
+            case "firefox":
+                FirefoxOptions firefoxOptions = new FirefoxOptions();
+                firefoxOptions.addArguments("--headless");
+                firefoxOptions.addArguments("--width=1920");
+                firefoxOptions.addArguments("--height=1080");
+                firefoxOptions.addPreference("browser.shell.checkDefaultBrowser", false);
+                firefoxOptions.addPreference("browser.startup.page", 0);
+                firefoxOptions.addPreference("app.update.auto", false);
+                firefoxOptions.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+                firefoxOptions.addPreference("toolkit.telemetry.reportingpolicy.firstRun", false);
+                firefoxOptions.addPreference("extensions.update.enabled", false);
+                return firefoxOptions;
+
+            case "htmlunit":
+                // In-JVM HtmlUnit emulating Chrome, with JavaScript on; see BrowserRouting
+                return new ImmutableCapabilities("browserName", "htmlunit", "javascriptEnabled", true);
+
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browserName);
+        }
+    }
+
+    public static WebDriver createDriver(String browserName, Capabilities options) {
+        long start = System.nanoTime();
+        boolean cold = STARTED.add(browserName);
+        WebDriver driver;
+
+        switch (browserName) {
+            case "chrome":
+            case "firefox":
+                if (NodeScheduler.isEnabled()) {
+                    driver = NodeScheduler.getInstance().createDriver(options);
+                    break;
+                }
+                DriverBinaries.ensure(browserName);
+                Path profile = BrowserProfiles.isEnabled()
+                        ? BrowserProfiles.newSessionProfile(browserName, template -> warmUp(browserName, options, template))
+                        : null;
+                try {
+                    try {
+                        driver = launch(browserName, options, profile);
+                    } catch (SessionNotCreatedException e) {
+                        if (!DriverBinaries.isFromCache(browserName)) {
+                            throw e;
+                        }
+                        // The browser has been updated since the driver binary was cached
+                        DriverBinaries.invalidate(browserName);
+                        DriverBinaries.ensure(browserName);
+                        driver = launch(browserName, options, profile);
+                    }
+                } catch (RuntimeException e) {
+                    BrowserProfiles.discard(profile);
+                    throw e;
+                }
+                BrowserProfiles.register(driver, profile);
+                break;
+
+            case "htmlunit":
+                driver = new HtmlUnitDriver(BrowserVersion.CHROME, true);
+                driver.manage().window().maximize();
+                break;
+
+            default:
+                throw new IllegalArgumentException("Browser not supported: " + browserName);
+        }
+
+        applyTimeouts(driver);
+        LatencyMetrics.record(LatencyMetrics.DRIVER_START, System.nanoTime() - start,
+                "browser", browserName, "start", cold ? "cold" : "warm");
+        return driver;
+    }
+
+    public static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Session is already gone
+        }
+        BrowserProfiles.discard(driver);
+        NodeScheduler.sessionEnded(driver);
+    }
+
+    public static void applyTimeouts(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        // LoginPage records every navigation as "pageLoad"; a slow site's budget can extend the limit, never shorten it
+        driver.manage().timeouts().pageLoadTimeout(WaitBudgets.budget("pageLoad", PAGE_LOAD_TIMEOUT).limit(PAGE_LOAD_TIMEOUT));
+    }
+
+    // The window size comes from the launch arguments, so no maximize round trip is needed
+    private static WebDriver launch(String browserName, Capabilities options, Path profile) {
+        if (browserName.equals("firefox")) {
+            FirefoxOptions firefoxOptions = new FirefoxOptions().merge(options);
+            if (profile != null) {
+                firefoxOptions.addArguments("-profile", profile.toString());
+            }
+            return new FirefoxDriver(firefoxOptions);
+        }
+        ChromeOptions chromeOptions = new ChromeOptions().merge(options);
+        if (profile != null) {
+            chromeOptions.addArguments("--user-data-dir=" + profile);
+        }
+        return new ChromeDriver(chromeOptions);
+    }
+
+    // Starts the browser once on the template directory and loads the site under test into its cache
+    private static void warmUp(String browserName, Capabilities options, Path template) {
+        WebDriver driver = launch(browserName, options, template);
+        try {
+            driver.manage().timeouts().pageLoadTimeout(PAGE_LOAD_TIMEOUT);
+            driver.get(TestEnvironment.webBaseUrl());
+        } finally {
+            driver.quit();
+        }
+    }
+}
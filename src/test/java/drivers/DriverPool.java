@@ -0,0 +1,178 @@
+package drivers;
+
+import grid.NodeScheduler;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of warm WebDriver sessions, keyed by browser name and launch options.
+ * Sessions are reset (cookies, storage, about:blank) when they are released and
+ * evicted when they no longer respond.
+ *
+ * System properties:
+ * - driver.pool.enabled (default true): false quits every session on release, like the old @After did
+ * - driver.pool.size (default = available processors, or the total node capacity with a grid): max number of live browser sessions
+ */
+public class DriverPool {
+
+    private static final DriverPool INSTANCE = new DriverPool(Integer.getInteger("driver.pool.size",
+            NodeScheduler.isEnabled() ? NodeScheduler.getInstance().getTotalCapacity() : Runtime.getRuntime().availableProcessors()));
+
+    private final int maxSessions;
+    private final Semaphore permits;
+    private final AtomicInteger liveSessions = new AtomicInteger();
+    private final Map<String, Deque<WebDriver>> idleSessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, String> activeSessions = new ConcurrentHashMap<>();
+
+    private DriverPool(int maxSessions) {
+        this.maxSessions = maxSessions;
+        this.permits = new Semaphore(maxSessions, true);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("driver.pool.enabled", "true"));
+    }
+
+    public WebDriver acquire(String browserName) {
+        Capabilities options = DriverFactory.createOptions(browserName);
+        String key = browserName + options.asMap();
+
+        permits.acquireUninterruptibly();
+        try {
+            Deque<WebDriver> idle = idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+            WebDriver driver;
+            while ((driver = idle.pollFirst()) != null) {
+                if (isAlive(driver)) {
+                    activeSessions.put(driver, key);
+                    NodeScheduler.sessionBusy(driver);
+                    return driver;
+                }
+                evict(driver);
+            }
+
+            // Make room for a new session by closing an idle one of another browser/options combination
+            if (liveSessions.get() >= maxSessions) {
+                evictOneIdle();
+            }
+
+            driver = DriverFactory.createDriver(browserName, options);
+            liveSessions.incrementAndGet();
+            activeSessions.put(driver, key);
+            NodeScheduler.sessionBusy(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(WebDriver driver) {
+        String key = activeSessions.remove(driver);
+        if (key == null) {
+            return;
+        }
+        NodeScheduler.sessionIdle(driver);
+
+        try {
+            if (isEnabled() && resetSession(driver)) {
+                idleSessions.get(key).offerFirst(driver);
+            } else {
+                evict(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void invalidate(WebDriver driver) {
+        if (activeSessions.remove(driver) != null) {
+            evict(driver);
+            permits.release();
+        }
+    }
+
+    // Live sessions, active and idle, of one browser (null for all browsers)
+    public int sessionCount(String browserName) {
+        long active = activeSessions.values().stream()
+                .filter(key -> browserName == null || key.startsWith(browserName))
+                .count();
+        long idle = idleSessions.entrySet().stream()
+                .filter(entry -> browserName == null || entry.getKey().startsWith(browserName))
+                .mapToLong(entry -> entry.getValue().size())
+                .sum();
+        return (int) (active + idle);
+    }
+
+    public void shutdown() {
+        idleSessions.values().forEach(idle -> {
+            WebDriver driver;
+            while ((driver = idle.pollFirst()) != null) {
+                evict(driver);
+            }
+        });
+        activeSessions.keySet().forEach(this::evict);
+        activeSessions.clear();
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean resetSession(WebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                driver.switchTo().window(handles.get(i));
+                driver.close();
+            }
+            driver.switchTo().window(handles.get(0));
+
+            // Cookies and storage belong to the current origin, so clear them before leaving it
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+
+            DriverFactory.applyTimeouts(driver);
+            return true;
+        } catch (WebDriverException e) {
+            System.err.println("Evicting broken WebDriver session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictOneIdle() {
+        for (Deque<WebDriver> idle : idleSessions.values()) {
+            WebDriver driver = idle.pollLast();
+            if (driver != null) {
+                evict(driver);
+                return;
+            }
+        }
+    }
+
+    private void evict(WebDriver driver) {
+        liveSessions.decrementAndGet();
+        DriverFactory.quit(driver);
+    }
+}
@@ -0,0 +1,96 @@
+package fixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP server that serves a local copy of the SauceDemo pages from
+ * src/test/resources/fixtures/saucedemo and a stub of the dummyapi.io user endpoints
+ * on a loopback port, so suites and benchmarks can run without going over the network.
+ *
+ * -Dfixture.users sets the number of generated API users (default 100) and
+ * -Dfixture.maxLimit the largest page size the user list accepts (default 50, like dummyapi.io).
+ */
+public class FixtureServer {
+
+    private static final String RESOURCE_ROOT = "/fixtures/saucedemo";
+
+    private static FixtureServer instance;
+
+    private final HttpServer server;
+
+    private FixtureServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::serveStaticFile);
+        server.createContext(UserApiStub.BASE_PATH, new UserApiStub(
+                Integer.getInteger("fixture.users", 100), Integer.getInteger("fixture.maxLimit", 50)));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0)));
+    }
+
+    public static synchronized FixtureServer start() {
+        if (instance == null) {
+            try {
+                instance = new FixtureServer();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start fixture server", e);
+            }
+        }
+        return instance;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    // Same shape as RestAssured.baseURI for dummyapi.io; the API lives under UserApiStub.BASE_PATH
+    public String getApiBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void serveStaticFile(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/")) {
+            path = "/index.html";
+        }
+
+        try (InputStream resource = path.contains("..") ? null : getClass().getResourceAsStream(RESOURCE_ROOT + path)) {
+            if (resource == null) {
+                sendResponse(exchange, 404, "text/plain", "Not Found".getBytes());
+                return;
+            }
+            sendResponse(exchange, 200, contentType(path), resource.readAllBytes());
+        }
+    }
+
+    static void sendResponse(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".html")) {
+            return "text/html; charset=utf-8";
+        } else if (path.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        } else if (path.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        } else if (path.endsWith(".svg")) {
+            return "image/svg+xml";
+        } else if (path.endsWith(".json")) {
+            return "application/json; charset=utf-8";
+        }
+        return "application/octet-stream";
+    }
+}
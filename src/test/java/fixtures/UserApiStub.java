@@ -0,0 +1,253 @@
+package fixtures;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the dummyapi.io /data/v1/user endpoints used by UserApiTest.
+ * Generated users have ids in the same range as dummyapi's sample data, so the
+ * hardcoded ids in the tests resolve here too. They are derived from their index on
+ * demand and list pages are streamed, so very large user counts cost no memory.
+ */
+class UserApiStub implements HttpHandler {
+
+    static final String BASE_PATH = "/data/v1";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ID_PREFIX = "60d0fe4f53112361";
+    private static final long FIRST_ID = 0x68a109caL;
+    private static final String[] TITLES = {"mr", "ms", "mrs", "miss"};
+    private static final String[] FIRST_NAMES = {"Sara", "Edita", "Adina", "Roberto", "Rudi", "Carolina", "Emily", "Kent", "Evan", "Ana"};
+    private static final String[] LAST_NAMES = {"Andersen", "Vesala", "Barbosa", "Vega", "Droste", "Lima", "Johnson", "Brewer", "Carlson", "Ortiz"};
+
+    private final int generatedUsers;
+    private final int maxLimit;
+    // Oldest created users are dropped beyond this, so long load runs do not grow the stub without bound
+    private static final int MAX_CREATED_USERS = Integer.getInteger("fixture.createdUsers.max", 1_000);
+
+    private final List<ObjectNode> createdUsers = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, ObjectNode> createdUsersById = new ConcurrentHashMap<>();
+    private final AtomicLong nextCreatedId = new AtomicLong(0x70000000L);
+
+    UserApiStub(int generatedUsers, int maxLimit) {
+        this.generatedUsers = generatedUsers;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestHeaders().containsKey("app-id")) {
+                sendError(exchange, 403, "APP_ID_MISSING");
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String[] segments = exchange.getRequestURI().getPath().substring(BASE_PATH.length()).split("/");
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            // segments[0] is the empty string before the leading slash
+            if (segments.length == 2 && segments[1].equals("user") && method.equals("GET")) {
+                listUsers(exchange, query);
+            } else if (segments.length == 3 && segments[2].equals("create") && method.equals("POST")) {
+                createUser(exchange);
+            } else if (segments.length == 3 && segments[1].equals("user") && method.equals("GET")) {
+                getUser(exchange, segments[2]);
+            } else if (segments.length == 4 && segments[3].equals("post") && method.equals("GET")) {
+                getUserPosts(exchange, segments[2]);
+            } else {
+                sendError(exchange, 404, "PATH_NOT_FOUND");
+            }
+        }
+    }
+
+    private void listUsers(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int limit = Math.max(5, Math.min(maxLimit, parseInt(query.get("limit"), 20)));
+        int page = Math.max(0, parseInt(query.get("page"), 0));
+        int total = totalUsers();
+        int from = (int) Math.min(total, (long) page * limit);
+        int to = Math.min(total, from + limit);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream output = exchange.getResponseBody();
+             JsonGenerator generator = MAPPER.getFactory().createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+            for (int i = from; i < to; i++) {
+                MAPPER.writeTree(generator, preview(userAt(i)));
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("total", total);
+            generator.writeNumberField("page", page);
+            generator.writeNumberField("limit", limit);
+            generator.writeEndObject();
+        }
+    }
+
+    private void getUser(HttpExchange exchange, String id) throws IOException {
+        if (!isValidId(id)) {
+            sendError(exchange, 400, "PARAMS_NOT_VALID");
+            return;
+        }
+        ObjectNode user = findUser(id);
+        if (user == null) {
+            sendError(exchange, 404, "RESOURCE_NOT_FOUND");
+            return;
+        }
+        sendJson(exchange, 200, user);
+    }
+
+    private void getUserPosts(HttpExchange exchange, String id) throws IOException {
+        if (!isValidId(id)) {
+            sendError(exchange, 400, "PARAMS_NOT_VALID");
+            return;
+        }
+        ObjectNode user = findUser(id);
+        ArrayNode data = MAPPER.createArrayNode();
+        if (user != null) {
+            for (int i = 0; i < 3; i++) {
+                ObjectNode post = data.addObject();
+                post.put("id", id.substring(0, 20) + String.format("%04x", i));
+                post.put("image", "https://img.dummyapi.io/photo-" + i + ".jpg");
+                post.put("likes", 10 + i);
+                post.putArray("tags").add("animal").add("dog");
+                post.put("text", "Post " + i + " by " + user.get("firstName").asText() + ", generated by the local fixture server");
+                post.put("publishDate", "2020-05-24T14:53:17.598Z");
+                post.set("owner", preview(user));
+            }
+        }
+
+        ObjectNode body = MAPPER.createObjectNode();
+        body.set("data", data);
+        body.put("total", data.size());
+        body.put("page", 0);
+        body.put("limit", 20);
+        sendJson(exchange, 200, body);
+    }
+
+    private void createUser(HttpExchange exchange) throws IOException {
+        JsonNode request;
+        try {
+            request = MAPPER.readTree(exchange.getRequestBody());
+        } catch (IOException e) {
+            sendError(exchange, 400, "BODY_NOT_VALID");
+            return;
+        }
+        if (request == null || !request.hasNonNull("firstName") || !request.hasNonNull("lastName")
+                || !request.hasNonNull("email")) {
+            sendError(exchange, 400, "BODY_NOT_VALID");
+            return;
+        }
+
+        ObjectNode user = MAPPER.createObjectNode();
+        user.put("id", ID_PREFIX + String.format("%08x", nextCreatedId.getAndIncrement()));
+        request.fields().forEachRemaining(field -> {
+            if (!field.getKey().equals("id")) {
+                user.set(field.getKey(), field.getValue());
+            }
+        });
+        user.put("registerDate", "2024-01-01T00:00:00.000Z");
+        user.put("updatedDate", "2024-01-01T00:00:00.000Z");
+        synchronized (createdUsers) {
+            createdUsers.add(user);
+            createdUsersById.put(user.get("id").asText(), user);
+            if (createdUsers.size() > MAX_CREATED_USERS) {
+                createdUsersById.remove(createdUsers.remove(0).get("id").asText());
+            }
+        }
+        sendJson(exchange, 200, user);
+    }
+
+    private int totalUsers() {
+        return generatedUsers + createdUsers.size();
+    }
+
+    // The created list never shrinks (a drop always follows an add), so a page sized earlier stays in range
+    private ObjectNode userAt(int index) {
+        return index < generatedUsers ? generateUser(index) : createdUsers.get(index - generatedUsers);
+    }
+
+    private ObjectNode findUser(String id) {
+        if (id.startsWith(ID_PREFIX)) {
+            long index = Long.parseLong(id.substring(ID_PREFIX.length()), 16) - FIRST_ID;
+            if (index >= 0 && index < generatedUsers) {
+                return generateUser((int) index);
+            }
+        }
+        return createdUsersById.get(id);
+    }
+
+    private static ObjectNode generateUser(int index) {
+        ObjectNode user = MAPPER.createObjectNode();
+        String firstName = FIRST_NAMES[index % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length];
+        user.put("id", ID_PREFIX + String.format("%08x", FIRST_ID + index));
+        user.put("title", TITLES[index % TITLES.length]);
+        user.put("firstName", firstName);
+        user.put("lastName", lastName);
+        user.put("picture", "https://randomuser.me/api/portraits/med/" + (index % 2 == 0 ? "women" : "men") + "/" + (index % 100) + ".jpg");
+        user.put("gender", index % 2 == 0 ? "female" : "male");
+        user.put("email", (firstName + "." + lastName + index + "@example.com").toLowerCase());
+        user.put("dateOfBirth", "1990-01-01T00:00:00.000Z");
+        user.put("phone", String.format("+1-555-%04d", index % 10_000));
+        return user;
+    }
+
+    private static ObjectNode preview(ObjectNode user) {
+        ObjectNode preview = MAPPER.createObjectNode();
+        for (String field : new String[]{"id", "title", "firstName", "lastName", "picture"}) {
+            if (user.has(field)) {
+                preview.set(field, user.get(field));
+            }
+        }
+        return preview;
+    }
+
+    private static boolean isValidId(String id) {
+        return id.matches("[0-9a-f]{24}");
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    query.put(pair.substring(0, separator), pair.substring(separator + 1));
+                }
+            }
+        }
+        return query;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String error) throws IOException {
+        sendJson(exchange, status, MAPPER.createObjectNode().put("error", error));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        FixtureServer.sendResponse(exchange, status, "application/json; charset=utf-8", MAPPER.writeValueAsBytes(body));
+    }
+}
@@ -0,0 +1,84 @@
+package grid;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One Selenium node (or standalone server) and what this JVM knows about it: capacity and health
+ * from its /status endpoint, the sessions this JVM has open on it, and usage counters.
+ */
+public class GridNode {
+
+    private final URI uri;
+    private final int configuredCapacity;
+    private volatile int reportedMaxSessions;
+    private volatile int reportedUsed;
+    private volatile boolean healthy = true;
+    private final AtomicInteger liveSessions = new AtomicInteger();
+    private final AtomicLong sessionsStarted = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong busyNanos = new AtomicLong();
+
+    GridNode(URI uri, int configuredCapacity) {
+        this.uri = uri;
+        this.configuredCapacity = configuredCapacity;
+    }
+
+    public URI getUri() { return uri; }
+
+    public boolean isHealthy() { return healthy; }
+
+    public int getCapacity() {
+        return configuredCapacity > 0 ? configuredCapacity : Math.max(1, reportedMaxSessions);
+    }
+
+    // Sessions of other clients of the node count as taken too
+    public int getFreeSlots() {
+        return getCapacity() - Math.max(liveSessions.get(), reportedUsed);
+    }
+
+    public double getFreeShare() {
+        return (double) getFreeSlots() / getCapacity();
+    }
+
+    public long getSessionsStarted() { return sessionsStarted.get(); }
+
+    public long getFailures() { return failures.get(); }
+
+    public long getBusyNanos() { return busyNanos.get(); }
+
+    void updateStatus(boolean ready, int maxSessions, int used) {
+        healthy = ready;
+        reportedMaxSessions = maxSessions;
+        reportedUsed = used;
+    }
+
+    void reserve() {
+        liveSessions.incrementAndGet();
+    }
+
+    void started() {
+        sessionsStarted.incrementAndGet();
+    }
+
+    // Keeps the last reported capacity, so it does not shrink while the node is away
+    void markDown() {
+        healthy = false;
+    }
+
+    // A session could not be created here; the node is skipped until its next healthy status
+    void failed() {
+        liveSessions.decrementAndGet();
+        failures.incrementAndGet();
+        markDown();
+    }
+
+    void ended() {
+        liveSessions.decrementAndGet();
+    }
+
+    void addBusy(long nanos) {
+        busyNanos.addAndGet(nanos);
+    }
+}
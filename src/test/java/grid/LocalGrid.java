@@ -0,0 +1,100 @@
+package grid;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stand-in grid on one machine: starts Selenium standalone servers (org.openqa.selenium.grid.Main
+ * from the test classpath) as child processes on free loopback ports, each with
+ * up to grid.local.maxSessions sessions, and stops them when the JVM exits. Node logs go to target/grid.
+ *
+ * ./gradlew localGrid -Dgrid.local=3 keeps the nodes running and prints the -Dgrid.nodes value
+ * for other runs; killing one of the node processes is a quick way to try node failure handling.
+ */
+public class LocalGrid {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    public static List<String> start(int count, int maxSessions) {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        File logDir = new File("target/grid");
+        logDir.mkdirs();
+
+        List<Process> processes = new ArrayList<>();
+        List<String> urls = new ArrayList<>();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> processes.forEach(Process::destroy)));
+        for (int i = 0; i < count; i++) {
+            int port = freePort();
+            try {
+                processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                        "org.openqa.selenium.grid.Main", "standalone",
+                        "--host", "127.0.0.1",
+                        "--port", String.valueOf(port),
+                        "--max-sessions", String.valueOf(maxSessions),
+                        "--override-max-sessions", "true",
+                        "--selenium-manager", "true")
+                        .redirectErrorStream(true)
+                        .redirectOutput(new File(logDir, "node-" + port + ".log"))
+                        .start());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start local Selenium node on port " + port, e);
+            }
+            urls.add("http://127.0.0.1:" + port);
+        }
+
+        urls.forEach(LocalGrid::awaitReady);
+        System.out.println("Local grid: " + count + " standalone nodes with up to " + maxSessions + " sessions each: " + String.join(",", urls));
+        return urls;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> urls = start(Integer.getInteger("grid.local", 3), Integer.getInteger("grid.local.maxSessions", 2));
+        System.out.println("Run against it with -Dgrid.nodes=" + String.join(",", urls) + " (Ctrl+C stops the nodes)");
+        Thread.currentThread().join();
+    }
+
+    private static void awaitReady(String url) {
+        HttpClient http = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(url + "/status")).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200
+                        && new ObjectMapper().readTree(response.body()).path("value").path("ready").asBoolean()) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            try {
+                Thread.sleep(250);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("Local Selenium node " + url + " was not ready after " + STARTUP_TIMEOUT.toSeconds() + " s, see target/grid");
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not find a free port", e);
+        }
+    }
+}
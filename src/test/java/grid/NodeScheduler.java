@@ -0,0 +1,211 @@
+package grid;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributes browser sessions over Selenium nodes. Nodes come from -Dgrid.nodes, e.g.
+ * "http://10.0.0.5:4444,http://10.0.0.6:4444=8" (capacity after "=", otherwise the maxSessions
+ * the node reports), or -Dgrid.local=N starts N standalone nodes on this machine (LocalGrid).
+ *
+ * A new session goes to the healthy node with the largest share of free slots. Every node's
+ * /status is polled every grid.healthInterval.s (default 5). A node that is not ready, does not
+ * answer or refuses a session is skipped until it reports ready again, and the session is tried
+ * on the next node. Scenarios whose session dies with its node fail with a node error, which
+ * RetryingRunner re-runs (on the remaining nodes) even without a @retry tag.
+ */
+public class NodeScheduler {
+
+    private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(Long.getLong("grid.acquireTimeout.s", 60));
+
+    private static volatile NodeScheduler instance;
+
+    private final List<GridNode> nodes;
+    private final Map<WebDriver, GridNode> sessions = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Long> busySince = new ConcurrentHashMap<>();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final long startNanos = System.nanoTime();
+
+    private NodeScheduler(List<GridNode> nodes) {
+        this.nodes = nodes;
+        nodes.forEach(this::checkHealth);
+        ScheduledExecutorService health = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grid-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Long.getLong("grid.healthInterval.s", 5);
+        health.scheduleWithFixedDelay(() -> nodes.forEach(this::checkHealth), interval, interval, TimeUnit.SECONDS);
+    }
+
+    public static boolean isEnabled() {
+        return System.getProperty("grid.nodes") != null || Integer.getInteger("grid.local", 0) > 0;
+    }
+
+    public static NodeScheduler getInstance() {
+        if (instance == null) {
+            synchronized (NodeScheduler.class) {
+                if (instance == null) {
+                    instance = new NodeScheduler(configuredNodes());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static List<GridNode> configuredNodes() {
+        String list = System.getProperty("grid.nodes");
+        if (list == null) {
+            list = String.join(",", LocalGrid.start(Integer.getInteger("grid.local"), Integer.getInteger("grid.local.maxSessions", 2)));
+        }
+        List<GridNode> nodes = new ArrayList<>();
+        for (String entry : list.split(",")) {
+            String[] parts = entry.trim().split("=");
+            nodes.add(new GridNode(URI.create(parts[0]), parts.length > 1 ? Integer.parseInt(parts[1]) : 0));
+        }
+        return nodes;
+    }
+
+    public int getTotalCapacity() {
+        return nodes.stream().mapToInt(GridNode::getCapacity).sum();
+    }
+
+    public WebDriver createDriver(Capabilities options) {
+        long deadline = System.nanoTime() + ACQUIRE_TIMEOUT.toNanos();
+        Set<GridNode> tried = new HashSet<>();
+        while (true) {
+            GridNode node = pick(tried);
+            if (node == null) {
+                if (System.nanoTime() > deadline) {
+                    throw new SessionNotCreatedException("No healthy Selenium node with a free slot after " + ACQUIRE_TIMEOUT.toSeconds() + " s");
+                }
+                // Every node is full, down or has just refused; wait for a slot or a health check to bring one back
+                sleep(250);
+                tried.clear();
+                continue;
+            }
+            try {
+                WebDriver driver = new RemoteWebDriver(node.getUri().toURL(), options);
+                node.started();
+                sessions.put(driver, node);
+                return driver;
+            } catch (WebDriverException | MalformedURLException e) {
+                node.failed();
+                tried.add(node);
+                System.err.println("Selenium node " + node.getUri() + " refused a session, trying another node: "
+                        + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+            }
+        }
+    }
+
+    private synchronized GridNode pick(Set<GridNode> tried) {
+        GridNode node = nodes.stream()
+                .filter(candidate -> candidate.isHealthy() && !tried.contains(candidate) && candidate.getFreeSlots() > 0)
+                .max(Comparator.comparingDouble(GridNode::getFreeShare)
+                        .thenComparing(Comparator.comparingLong(GridNode::getFailures).reversed()))
+                .orElse(null);
+        if (node != null) {
+            node.reserve();
+        }
+        return node;
+    }
+
+    // Session handed to a scenario (DriverPool.acquire)
+    public static void sessionBusy(WebDriver driver) {
+        if (instance != null && instance.sessions.containsKey(driver)) {
+            instance.busySince.put(driver, System.nanoTime());
+        }
+    }
+
+    // Session back in the pool or about to be quit
+    public static void sessionIdle(WebDriver driver) {
+        Long since = instance == null ? null : instance.busySince.remove(driver);
+        if (since != null) {
+            GridNode node = instance.sessions.get(driver);
+            if (node != null) {
+                node.addBusy(System.nanoTime() - since);
+            }
+        }
+    }
+
+    // Session has been quit
+    public static void sessionEnded(WebDriver driver) {
+        if (instance != null) {
+            sessionIdle(driver);
+            GridNode node = instance.sessions.remove(driver);
+            if (node != null) {
+                node.ended();
+            }
+        }
+    }
+
+    /** Utilisation is the time sessions spent in scenarios, divided by the node's slot time since the first session. */
+    public static void printSummary() {
+        if (instance == null) {
+            return;
+        }
+        double elapsedSeconds = (System.nanoTime() - instance.startNanos) / 1e9;
+        System.out.println("\n=== Grid Node Summary ===");
+        System.out.printf("%-32s %8s %9s %9s %9s %10s %12s%n", "node", "healthy", "capacity", "sessions", "failures", "busy s", "utilisation");
+        for (GridNode node : instance.nodes) {
+            double busySeconds = node.getBusyNanos() / 1e9;
+            System.out.printf("%-32s %8s %9d %9d %9d %10.1f %11.1f%%%n", node.getUri(), node.isHealthy() ? "yes" : "NO",
+                    node.getCapacity(), node.getSessionsStarted(), node.getFailures(), busySeconds,
+                    100 * busySeconds / (node.getCapacity() * elapsedSeconds));
+        }
+    }
+
+    private void checkHealth(GridNode node) {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(node.getUri().resolve("/status"))
+                    .timeout(Duration.ofSeconds(2)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            JsonNode value = mapper.readTree(response.body()).path("value");
+            // A node lists one slot per browser stereotype per max-sessions, so the slot count overstates
+            // what it can run at once; maxSessions is the real limit and busy slots count against it
+            int maxSessions = 0;
+            int used = 0;
+            for (JsonNode gridNode : value.path("nodes")) {
+                maxSessions += gridNode.path("maxSessions").asInt(0);
+                for (JsonNode slot : gridNode.path("slots")) {
+                    if (!slot.path("session").isNull() && !slot.path("session").isMissingNode()) {
+                        used++;
+                    }
+                }
+            }
+            node.updateStatus(response.statusCode() == 200 && value.path("ready").asBoolean(), maxSessions, used);
+        } catch (Exception e) {
+            node.markDown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while waiting for a Selenium node");
+        }
+    }
+}
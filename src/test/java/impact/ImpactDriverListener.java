@@ -0,0 +1,26 @@
+package impact;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.lang.reflect.Method;
+
+/**
+ * Attributes every WebDriver call to the page-object method that made it, by walking the
+ * stack to the first frame in the pages package.
+ */
+public class ImpactDriverListener implements WebDriverListener {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        WALKER.walk(frames -> frames
+                        .filter(frame -> frame.getClassName().startsWith("pages."))
+                        .findFirst())
+                .ifPresent(frame -> ImpactRecorder.touch(frame.getClassName() + "." + methodName(frame.getMethodName())));
+    }
+
+    // Conditions passed to SmartWait run as "lambda$openMenu$0"; attribute them to openMenu
+    private static String methodName(String frameMethod) {
+        return frameMethod.startsWith("lambda$") ? frameMethod.split("\\$")[1] : frameMethod;
+    }
+}
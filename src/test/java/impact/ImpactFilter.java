@@ -0,0 +1,42 @@
+package impact;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Drops Cucumber scenarios that ImpactSelection did not select. Registered through
+ * META-INF/services, so it applies to every launcher run but does nothing unless
+ * -Dimpact.changed or -Dimpact.base is set. Other engines (UserApiTest) are left alone.
+ */
+public class ImpactFilter implements PostDiscoveryFilter {
+
+    // One selection per JVM: ShardFilter creates its own instance to plan, and that must not ask git again
+    private static final ImpactSelection SELECTION = load();
+
+    private final ImpactSelection selection = SELECTION;
+
+    private static ImpactSelection load() {
+        ImpactSelection selection = ImpactSelection.fromSystemProperties();
+        if (selection != null) {
+            System.out.println(selection.isRunAll()
+                    ? "Impact selection: running all scenarios (" + selection.getReason() + ")"
+                    : "Impact selection: " + selection.getScenarioKeys().size() + " scenarios and all of "
+                            + selection.getFeatures().size() + " changed feature files for " + selection.getReason());
+        }
+        return selection;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        // Other engines and scenarios with an unknown source stay included rather than silently vanishing
+        String scenarioKey = ImpactMap.scenarioKey(descriptor);
+        if (selection == null || selection.isRunAll() || scenarioKey == null) {
+            return FilterResult.included("impact selection not applicable");
+        }
+        if (selection.includes(scenarioKey)) {
+            return FilterResult.included("affected by change");
+        }
+        return FilterResult.excluded("not affected by change");
+    }
+}
@@ -0,0 +1,80 @@
+package impact;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Which step definitions and page-object methods each scenario exercised, keyed by
+ * "features/<file>.feature:<line>". Stored as JSON in target/impact/impact-map.json
+ * (-Dimpact.map to change) and merged with the previous content on every recorded run.
+ */
+public class ImpactMap {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public record ScenarioImpact(String name, Set<String> tags, Set<String> symbols) {
+    }
+
+    public static File location() {
+        return new File(System.getProperty("impact.map", "target/impact/impact-map.json"));
+    }
+
+    public static Map<String, ScenarioImpact> load() {
+        File file = location();
+        if (!file.exists()) {
+            return new TreeMap<>();
+        }
+        try {
+            return MAPPER.readValue(file, new TypeReference<TreeMap<String, ScenarioImpact>>() { });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read impact map " + file, e);
+        }
+    }
+
+    public static synchronized void merge(Map<String, ScenarioImpact> recorded) {
+        Map<String, ScenarioImpact> all = load();
+        all.putAll(recorded);
+
+        File file = location();
+        file.getParentFile().mkdirs();
+        try {
+            MAPPER.writeValue(file, all);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write impact map " + file, e);
+        }
+    }
+
+    // Reduces classpath:, file: and absolute paths to "features/..." so all runners share one key space
+    public static String scenarioKey(String uri, int line) {
+        int features = uri.lastIndexOf("features/");
+        return (features >= 0 ? uri.substring(features) : uri) + ":" + line;
+    }
+
+    // The key of a Cucumber scenario found by the launcher (see ImpactFilter, ShardFilter, QuarantineFilter);
+    // null for containers, other engines and scenarios without a known feature file position
+    public static String scenarioKey(TestDescriptor descriptor) {
+        boolean cucumber = descriptor.getUniqueId().getSegments().stream()
+                .anyMatch(segment -> segment.getType().equals("engine") && segment.getValue().equals("cucumber"));
+        if (!descriptor.isTest() || !cucumber) {
+            return null;
+        }
+        TestSource source = descriptor.getSource().orElse(null);
+        if (source instanceof ClasspathResourceSource resource && resource.getPosition().isPresent()) {
+            return scenarioKey(resource.getClasspathResourceName(), resource.getPosition().get().getLine());
+        } else if (source instanceof FileSource file && file.getPosition().isPresent()) {
+            return scenarioKey(file.getFile().toURI().toString(), file.getPosition().get().getLine());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package impact;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the symbols touched by the scenario running on the current thread.
+ * Enabled with -Dimpact.record=true.
+ */
+public class ImpactRecorder {
+
+    private static final ThreadLocal<Set<String>> CURRENT = new ThreadLocal<>();
+    private static final Map<String, ImpactMap.ScenarioImpact> RECORDED = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("impact.record");
+    }
+
+    static void begin() {
+        CURRENT.set(new TreeSet<>());
+    }
+
+    public static void touch(String symbol) {
+        Set<String> symbols = CURRENT.get();
+        if (symbols != null) {
+            symbols.add(symbol);
+        }
+    }
+
+    static void finish(String scenarioKey, String name, Set<String> tags) {
+        Set<String> symbols = CURRENT.get();
+        CURRENT.remove();
+        if (symbols != null) {
+            RECORDED.put(scenarioKey, new ImpactMap.ScenarioImpact(name, new TreeSet<>(tags), symbols));
+        }
+    }
+
+    static void persist() {
+        if (!RECORDED.isEmpty()) {
+            ImpactMap.merge(RECORDED);
+            System.out.println("Impact map updated for " + RECORDED.size() + " scenarios: " + ImpactMap.location());
+            RECORDED.clear();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package impact;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.util.HashSet;
+
+/**
+ * Records the step definitions each scenario ran. Concurrent listeners receive test case
+ * events on the thread that runs the scenario, which lets ImpactDriverListener add the
+ * page-object methods of the same scenario.
+ */
+public class ImpactRecorderPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (!ImpactRecorder.isEnabled()) {
+            return;
+        }
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> ImpactRecorder.begin());
+        publisher.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep step) {
+                ImpactRecorder.touch(stripParameters(step.getCodeLocation()));
+            }
+        });
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            TestCase testCase = event.getTestCase();
+            ImpactRecorder.finish(
+                    ImpactMap.scenarioKey(testCase.getUri().toString(), testCase.getLocation().getLine()),
+                    testCase.getName(),
+                    new HashSet<>(testCase.getTags()));
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, event -> ImpactRecorder.persist());
+    }
+
+    // "stepDefinitions.LoginStepDefinitions.i_enter_username(java.lang.String)" -> "...i_enter_username"
+    private static String stripParameters(String codeLocation) {
+        if (codeLocation == null) {
+            return "undefined";
+        }
+        int parameters = codeLocation.indexOf('(');
+        return parameters >= 0 ? codeLocation.substring(0, parameters) : codeLocation;
+    }
+}
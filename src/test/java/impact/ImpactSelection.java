@@ -0,0 +1,160 @@
+package impact;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Works out which recorded scenarios a list of changed files can affect.
+ *
+ * Feature files select every scenario in them, by file rather than by recorded line, so new
+ * and moved scenarios are included. Classes under src/test/java select every scenario whose
+ * recorded step definitions or page-object methods belong to them. Docs and IDE files are
+ * ignored. Anything else (drivers, hooks, build files, fixtures, and classes no scenario was
+ * recorded using) can affect every scenario, so it selects the full run. Scenarios tagged -Dimpact.smokeTag
+ * (default @smoke) are always added as a safety net.
+ */
+public class ImpactSelection {
+
+    private static final String SOURCE_ROOT = "src/test/java/";
+    private static final List<String> IGNORED_PREFIXES = List.of(".github/", ".idea/", "allure-results/", "target/", "build/");
+
+    private final boolean runAll;
+    private final Set<String> scenarioKeys;
+    private final Set<String> features;
+    private final String reason;
+
+    private ImpactSelection(boolean runAll, Set<String> scenarioKeys, Set<String> features, String reason) {
+        this.runAll = runAll;
+        this.scenarioKeys = scenarioKeys;
+        this.features = features;
+        this.reason = reason;
+    }
+
+    private static ImpactSelection all(String reason) {
+        return new ImpactSelection(true, Set.of(), Set.of(), reason);
+    }
+
+    // -Dimpact.changed takes a comma separated list of paths or @file with one path per line;
+    // -Dimpact.base asks git for the files changed since that ref. Returns null when neither is set.
+    public static ImpactSelection fromSystemProperties() {
+        String changed = System.getProperty("impact.changed");
+        String base = System.getProperty("impact.base");
+        if (changed != null) {
+            return select(ImpactMap.load(), readChangedFiles(changed));
+        } else if (base != null) {
+            return select(ImpactMap.load(), gitDiff(base));
+        }
+        return null;
+    }
+
+    public static ImpactSelection select(Map<String, ImpactMap.ScenarioImpact> impactMap, List<String> changedFiles) {
+        if (impactMap.isEmpty()) {
+            return all("no impact map at " + ImpactMap.location());
+        }
+
+        Set<String> selected = new TreeSet<>();
+        Set<String> features = new TreeSet<>();
+        for (String file : changedFiles) {
+            String path = file.trim().replace('\\', '/');
+            if (path.isEmpty() || isIgnored(path)) {
+                continue;
+            }
+
+            if (path.endsWith(".feature")) {
+                features.add(featureOf(ImpactMap.scenarioKey(path, 0)));
+            } else if (path.endsWith(".java") && path.contains(SOURCE_ROOT)) {
+                String className = toClassName(path);
+                List<String> users = impactMap.entrySet().stream()
+                        .filter(entry -> entry.getValue().symbols().stream()
+                                .anyMatch(symbol -> symbol.startsWith(className + ".") || symbol.startsWith(className + "$")))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                // Hooks, InventoryItem and the like are used by every scenario without being recorded
+                if (users.isEmpty()) {
+                    return all("shared code changed: " + path);
+                }
+                selected.addAll(users);
+            } else {
+                return all("non-source change: " + path);
+            }
+        }
+
+        String smokeTag = System.getProperty("impact.smokeTag", "@smoke");
+        impactMap.forEach((key, impact) -> {
+            if (impact.tags().contains(smokeTag)) {
+                selected.add(key);
+            }
+        });
+        return new ImpactSelection(false, selected, features, changedFiles.size() + " changed files");
+    }
+
+    public boolean isRunAll() {
+        return runAll;
+    }
+
+    public boolean includes(String scenarioKey) {
+        return runAll || scenarioKeys.contains(scenarioKey) || features.contains(featureOf(scenarioKey));
+    }
+
+    public Set<String> getScenarioKeys() {
+        return scenarioKeys;
+    }
+
+    public Set<String> getFeatures() {
+        return features;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    // "features/login.feature:12" -> "features/login.feature"
+    private static String featureOf(String scenarioKey) {
+        return scenarioKey.substring(0, scenarioKey.lastIndexOf(':'));
+    }
+
+    private static boolean isIgnored(String path) {
+        return path.endsWith(".md") || IGNORED_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    private static String toClassName(String path) {
+        String relative = path.substring(path.indexOf(SOURCE_ROOT) + SOURCE_ROOT.length());
+        return relative.substring(0, relative.length() - ".java".length()).replace('/', '.');
+    }
+
+    private static List<String> readChangedFiles(String changed) {
+        if (changed.startsWith("@")) {
+            try {
+                return Files.readAllLines(Path.of(changed.substring(1)), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read changed file list " + changed, e);
+            }
+        }
+        return Arrays.asList(changed.split(","));
+    }
+
+    private static List<String> gitDiff(String base) {
+        try {
+            Process git = new ProcessBuilder("git", "diff", "--name-only", base).redirectErrorStream(true).start();
+            List<String> files = new ArrayList<>(new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+            if (git.waitFor() != 0) {
+                throw new RuntimeException("git diff --name-only " + base + " failed: " + files);
+            }
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not run git diff", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running git diff", e);
+        }
+    }
+}
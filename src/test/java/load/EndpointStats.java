@@ -0,0 +1,46 @@
+package load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds) and error count for one endpoint during a load run.
+ */
+public class EndpointStats {
+
+    private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public Histogram getHistogram() {
+        return latencyMicros;
+    }
+
+    public long getRequests() {
+        return latencyMicros.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : (double) getErrors() / requests;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    public double getMaxMillis() {
+        return latencyMicros.getMaxValue() / 1_000.0;
+    }
+}
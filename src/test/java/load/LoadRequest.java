@@ -0,0 +1,16 @@
+package load;
+
+import apiClient.ApiRequest;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * One entry of a load mix. The supplier is called per request so bodies can vary,
+ * and any status outside {@code expectedStatus} counts as an error.
+ */
+public record LoadRequest(String name, Supplier<ApiRequest> request, Set<Integer> expectedStatus) {
+
+    public static LoadRequest of(Supplier<ApiRequest> request, Integer... expectedStatus) {
+        return new LoadRequest(request.get().name(), request, Set.of(expectedStatus));
+    }
+}
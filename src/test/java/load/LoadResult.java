@@ -0,0 +1,20 @@
+package load;
+
+import java.util.Map;
+
+public record LoadResult(Map<String, EndpointStats> endpoints, long elapsedNanos) {
+
+    public double throughput(EndpointStats stats) {
+        return stats.getRequests() / (elapsedNanos / 1e9);
+    }
+
+    public void print() {
+        System.out.println("\n=== Load Test Results (" + String.format("%.1f", elapsedNanos / 1e9) + " s) ===");
+        System.out.printf("%-24s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        endpoints.forEach((name, stats) -> System.out.printf("%-24s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.getRequests(), throughput(stats), stats.getErrorRate() * 100,
+                stats.getPercentileMillis(50), stats.getPercentileMillis(95),
+                stats.getPercentileMillis(99), stats.getMaxMillis()));
+    }
+}
@@ -0,0 +1,81 @@
+package load;
+
+import apiClient.ApiClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a mix of requests from virtual threads for a fixed duration.
+ *
+ * With a target rate each worker sends on a fixed schedule and latency is measured from
+ * the scheduled send time, so a slow server cannot hide its queueing delay (no coordinated
+ * omission). Without a target rate every worker sends back to back (closed model).
+ */
+public class LoadRunner {
+
+    private final ApiClient client;
+    private final List<LoadRequest> mix;
+    private final int concurrency;
+    private final double targetRate;
+    private final Duration duration;
+
+    public LoadRunner(ApiClient client, List<LoadRequest> mix, int concurrency, double targetRate, Duration duration) {
+        this.client = client;
+        this.mix = mix;
+        this.concurrency = concurrency;
+        this.targetRate = targetRate;
+        this.duration = duration;
+    }
+
+    public LoadResult run() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        mix.forEach(request -> stats.put(request.name(), new EndpointStats()));
+
+        long intervalNanos = targetRate > 0 ? (long) (1e9 * concurrency / targetRate) : 0;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                int offset = worker;
+                executor.submit(() -> runWorker(offset, start, end, intervalNanos, stats));
+            }
+        }
+
+        return new LoadResult(stats, System.nanoTime() - start);
+    }
+
+    private void runWorker(int offset, long start, long end, long intervalNanos, Map<String, EndpointStats> stats) {
+        // Stagger the workers across one interval so a rate-limited run does not send in bursts
+        long scheduled = start + intervalNanos * offset / concurrency;
+        int next = offset;
+
+        while (true) {
+            if (intervalNanos > 0) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            if (System.nanoTime() >= end) {
+                return;
+            }
+
+            LoadRequest request = mix.get(next++ % mix.size());
+            long sentAt = intervalNanos > 0 ? scheduled : System.nanoTime();
+            int statusCode;
+            try {
+                statusCode = client.send(request.request().get()).statusCode();
+            } catch (RuntimeException e) {
+                statusCode = -1;
+            }
+            stats.get(request.name()).record(System.nanoTime() - sentAt, request.expectedStatus().contains(statusCode));
+            scheduled += intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pass/fail limits for a load run, applied to every endpoint. A limit that is not set is not checked.
+ * System properties: load.slo.p50.ms, load.slo.p95.ms, load.slo.p99.ms, load.slo.max.ms,
+ * load.slo.errorRate (fraction, default 0.01) and load.slo.minThroughput (req/s per endpoint).
+ */
+public record SloThresholds(Double p50Millis, Double p95Millis, Double p99Millis, Double maxMillis,
+                            Double errorRate, Double minThroughput) {
+
+    public static SloThresholds fromSystemProperties() {
+        return new SloThresholds(
+                doubleProperty("load.slo.p50.ms"),
+                doubleProperty("load.slo.p95.ms"),
+                doubleProperty("load.slo.p99.ms"),
+                doubleProperty("load.slo.max.ms"),
+                Double.valueOf(System.getProperty("load.slo.errorRate", "0.01")),
+                doubleProperty("load.slo.minThroughput"));
+    }
+
+    public List<String> check(LoadResult result) {
+        List<String> violations = new ArrayList<>();
+        result.endpoints().forEach((name, stats) -> {
+            checkAtMost(violations, name, "p50", stats.getPercentileMillis(50), p50Millis, "ms");
+            checkAtMost(violations, name, "p95", stats.getPercentileMillis(95), p95Millis, "ms");
+            checkAtMost(violations, name, "p99", stats.getPercentileMillis(99), p99Millis, "ms");
+            checkAtMost(violations, name, "max", stats.getMaxMillis(), maxMillis, "ms");
+            checkAtMost(violations, name, "error rate", stats.getErrorRate(), errorRate, "");
+            if (minThroughput != null && result.throughput(stats) < minThroughput) {
+                violations.add(String.format("%s: throughput %.1f req/s is below %.1f req/s",
+                        name, result.throughput(stats), minThroughput));
+            }
+        });
+        return violations;
+    }
+
+    private static void checkAtMost(List<String> violations, String endpoint, String metric,
+                                    double actual, Double limit, String unit) {
+        if (limit != null && actual > limit) {
+            violations.add(String.format("%s: %s %.3f%s exceeds %.3f%s", endpoint, metric, actual, unit, limit, unit));
+        }
+    }
+
+    private static Double doubleProperty(String name) {
+        String value = System.getProperty(name);
+        return value == null ? null : Double.valueOf(value);
+    }
+}
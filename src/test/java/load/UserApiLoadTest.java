@@ -0,0 +1,65 @@
+package load;
+
+import apiAuto.UserApiRequests;
+import apiClient.ApiClient;
+import config.TestEnvironment;
+import metrics.MetricsExporter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load mode for the UserApiTest requests. Runs against the local stub unless -Dtarget=remote
+ * or -Dapi.baseUri is given (see TestEnvironment).
+ *
+ * System properties:
+ * - load.concurrency (default 16): number of virtual-thread workers
+ * - load.rate (default 0): target requests per second across all workers, 0 = as fast as possible
+ * - load.duration.s (default 30)
+ * - SLO limits, see SloThresholds
+ */
+public class UserApiLoadTest {
+
+    private static final List<LoadRequest> MIX = List.of(
+            LoadRequest.of(UserApiRequests::getAllUsers, 200),
+            LoadRequest.of(UserApiRequests::getUserById, 200),
+            LoadRequest.of(UserApiRequests::getUsersWithLimit, 200),
+            LoadRequest.of(UserApiRequests::createUser, 200),
+            LoadRequest.of(UserApiRequests::getUserPosts, 200),
+            LoadRequest.of(UserApiRequests::getUserWithInvalidId, 400, 404));
+
+    public static void main(String[] args) {
+        // Load runs default to the local stub; -Dtarget=remote or -Dapi.baseUri points them elsewhere
+        if (System.getProperty("target") == null) {
+            System.setProperty("target", "local");
+        }
+        String baseUri = TestEnvironment.apiBaseUri();
+        Map<String, String> headers = Map.of(
+                "app-id", TestEnvironment.apiAppId(),
+                "Content-Type", "application/json");
+
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+        double rate = Double.parseDouble(System.getProperty("load.rate", "0"));
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration.s", 30));
+
+        System.out.println("=== Load test against " + baseUri + " ===");
+        System.out.println("Concurrency: " + concurrency + ", target rate: "
+                + (rate > 0 ? rate + " req/s" : "unbounded") + ", duration: " + duration.toSeconds() + " s");
+
+        LoadResult result;
+        try (ApiClient client = ApiClient.create(baseUri, "/data/v1", headers)) {
+            result = new LoadRunner(client, MIX, concurrency, rate, duration).run();
+        }
+        result.print();
+        MetricsExporter.export();
+
+        List<String> violations = SloThresholds.fromSystemProperties().check(result);
+        if (!violations.isEmpty()) {
+            System.err.println("\nSLO violations:");
+            violations.forEach(violation -> System.err.println(" - " + violation));
+            System.exit(1);
+        }
+        System.out.println("\nAll SLO thresholds met");
+        System.exit(0);
+    }
+}
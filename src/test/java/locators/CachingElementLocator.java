@@ -0,0 +1,82 @@
+package locators;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Resolves a @FindBy field once and keeps the result until the element goes stale.
+ * A navigation replaces the document, so every cached element of the old page goes
+ * stale and is looked up again on first use. Failed lookups are never cached, and neither
+ * are empty lists: nothing in an empty list can go stale, so it would never be refreshed.
+ * A cached list is only reused while its first element is still attached, since size() and
+ * iteration never touch the elements and would otherwise report the old page.
+ */
+class CachingElementLocator implements ElementLocator {
+
+    private final ElementLocator delegate;
+    private final String description;
+    private volatile WebElement element;
+    private volatile List<WebElement> elements;
+
+    CachingElementLocator(SearchContext searchContext, Field field) {
+        this.delegate = new DefaultElementLocator(searchContext, field);
+        this.description = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+    }
+
+    @Override
+    public WebElement findElement() {
+        WebElement cached = element;
+        if (cached != null) {
+            LocatorStats.hit();
+            return cached;
+        }
+        LocatorStats.miss();
+        element = delegate.findElement();
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        List<WebElement> cached = elements;
+        if (cached != null && isAttached(cached.get(0))) {
+            LocatorStats.hit();
+            return cached;
+        }
+        if (cached != null) {
+            LocatorStats.staleRefresh();
+            elements = null;
+        }
+        LocatorStats.miss();
+        List<WebElement> found = List.copyOf(delegate.findElements());
+        if (!found.isEmpty()) {
+            elements = found;
+        }
+        return found;
+    }
+
+    // One round trip; a navigation or re-render detaches the old elements
+    private static boolean isAttached(WebElement element) {
+        try {
+            element.isEnabled();
+            return true;
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
+    void invalidate() {
+        LocatorStats.staleRefresh();
+        element = null;
+        elements = null;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,135 @@
+package locators;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Field decorator that gives @FindBy fields CachingElementLocator proxies. When a call on
+ * a cached element fails with StaleElementReferenceException, the locator is invalidated,
+ * the element is looked up again and the call is retried once.
+ */
+class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    CachingFieldDecorator(SearchContext searchContext) {
+        super(field -> new CachingElementLocator(searchContext, field));
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return elementProxy(loader, new ElementHandler((CachingElementLocator) locator, -1));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected List<WebElement> proxyForListLocator(ClassLoader loader, ElementLocator locator) {
+        return (List<WebElement>) Proxy.newProxyInstance(loader, new Class<?>[]{List.class},
+                new ListHandler(loader, (CachingElementLocator) locator));
+    }
+
+    // The field behind a proxy made here, without touching the driver; null for any other object
+    static String describe(Object proxy) {
+        if (proxy == null || !Proxy.isProxyClass(proxy.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(proxy);
+        if (handler instanceof ElementHandler element) {
+            return element.locator().toString();
+        }
+        if (handler instanceof ListHandler list) {
+            return list.locator.toString();
+        }
+        return null;
+    }
+
+    private static WebElement elementProxy(ClassLoader loader, InvocationHandler handler) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+
+    // index -1 is a single @FindBy field, otherwise the position in a @FindBy list
+    private record ElementHandler(CachingElementLocator locator, int index) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("toString") && args == null) {
+                return "Cached proxy element for: " + locator;
+            }
+            try {
+                return call(method, args);
+            } catch (StaleElementReferenceException e) {
+                locator.invalidate();
+                return call(method, args);
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            WebElement element = resolve();
+            if (method.getName().equals("getWrappedElement")) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private WebElement resolve() {
+            if (index < 0) {
+                return locator.findElement();
+            }
+            List<WebElement> elements = locator.findElements();
+            if (index >= elements.size()) {
+                throw new StaleElementReferenceException("Element " + index + " of " + locator + " is no longer on the page");
+            }
+            return elements.get(index);
+        }
+    }
+
+    // The list is re-wrapped only when the locator resolved a new list
+    private static final class ListHandler implements InvocationHandler {
+
+        private final ClassLoader loader;
+        private final CachingElementLocator locator;
+        private List<WebElement> source;
+        private List<WebElement> wrapped;
+
+        ListHandler(ClassLoader loader, CachingElementLocator locator) {
+            this.loader = loader;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(wrappedElements(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private synchronized List<WebElement> wrappedElements() {
+            List<WebElement> elements = locator.findElements();
+            if (elements != source) {
+                List<WebElement> proxies = new ArrayList<>(elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    proxies.add(elementProxy(loader, new ElementHandler(locator, i)));
+                }
+                source = elements;
+                wrapped = List.copyOf(proxies);
+            }
+            return wrapped;
+        }
+    }
+}
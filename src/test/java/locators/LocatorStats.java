@@ -0,0 +1,47 @@
+package locators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit/miss counters for CachingElementLocator, shared by all threads.
+ */
+public class LocatorStats {
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong STALE_REFRESHES = new AtomicLong();
+
+    static void hit() {
+        HITS.incrementAndGet();
+    }
+
+    static void miss() {
+        MISSES.incrementAndGet();
+    }
+
+    static void staleRefresh() {
+        STALE_REFRESHES.incrementAndGet();
+    }
+
+    public static long getHits() { return HITS.get(); }
+
+    public static long getMisses() { return MISSES.get(); }
+
+    public static long getStaleRefreshes() { return STALE_REFRESHES.get(); }
+
+    public static void reset() {
+        HITS.set(0);
+        MISSES.set(0);
+        STALE_REFRESHES.set(0);
+    }
+
+    public static void printSummary() {
+        long lookups = HITS.get() + MISSES.get();
+        if (lookups == 0) {
+            return;
+        }
+        System.out.println("\n=== Element Locator Cache ===");
+        System.out.printf("lookups: %d, hits: %d (%.1f%%), misses: %d, stale re-resolutions: %d%n",
+                lookups, HITS.get(), 100.0 * HITS.get() / lookups, MISSES.get(), STALE_REFRESHES.get());
+    }
+}
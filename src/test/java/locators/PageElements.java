@@ -0,0 +1,30 @@
+package locators;
+
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+
+/**
+ * Entry point for page objects instead of PageFactory.initElements(driver, this).
+ * @FindBy fields are cached per page load (CachingFieldDecorator) unless
+ * -Dlocator.cache=false, which falls back to a fresh lookup on every access.
+ */
+public class PageElements {
+
+    public static void init(SearchContext searchContext, Object page) {
+        if (isCacheEnabled()) {
+            PageFactory.initElements(new CachingFieldDecorator(searchContext), page);
+        } else {
+            PageFactory.initElements(new DefaultElementLocatorFactory(searchContext), page);
+        }
+    }
+
+    /** "Page.field" for an element or list set up by init with the cache on, otherwise null. Never calls the driver. */
+    public static String describe(Object element) {
+        return CachingFieldDecorator.describe(element);
+    }
+
+    public static boolean isCacheEnabled() {
+        return Boolean.parseBoolean(System.getProperty("locator.cache", "true"));
+    }
+}
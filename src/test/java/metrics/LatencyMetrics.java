@@ -0,0 +1,72 @@
+package metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms for steps, waits, API requests and driver starts, shared by all threads,
+ * plus a few duration gauges (wait budgets).
+ * Recording is a map lookup plus a lock-free histogram update; values are kept in
+ * microseconds with three significant digits.
+ */
+public class LatencyMetrics {
+
+    public static final String STEP = "webtest_step_duration_seconds";
+    public static final String WAIT = "webtest_wait_duration_seconds";
+    public static final String API = "webtest_api_request_duration_seconds";
+    public static final String DRIVER_START = "webtest_driver_start_duration_seconds";
+    public static final String WAIT_BUDGET = "webtest_wait_budget_seconds";
+
+    private static final Map<String, Series> SERIES = new ConcurrentHashMap<>();
+    private static final Map<String, Gauge> GAUGES = new ConcurrentHashMap<>();
+
+    public record Series(String metric, String labels, Histogram histogram) {
+    }
+
+    public record Gauge(String metric, String labels, double seconds) {
+    }
+
+    // labels are name/value pairs, e.g. record(API, nanos, "endpoint", "GET /user", "status", "200")
+    public static void record(String metric, long elapsedNanos, String... labels) {
+        String series = seriesKey(metric, labels);
+        SERIES.computeIfAbsent(series, k -> new Series(metric, k.substring(metric.length()), new ConcurrentHistogram(3)))
+                .histogram().recordValue(Math.max(1, elapsedNanos / 1_000));
+    }
+
+    // Current value of a duration that is not a latency sample, e.g. a wait budget; the last value set wins
+    public static void setGauge(String metric, long nanos, String... labels) {
+        String series = seriesKey(metric, labels);
+        GAUGES.put(series, new Gauge(metric, series.substring(metric.length()), nanos / 1e9));
+    }
+
+    private static String seriesKey(String metric, String... labels) {
+        StringBuilder key = new StringBuilder(metric).append('{');
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+        }
+        return key.append('}').toString();
+    }
+
+    public static Map<String, Series> snapshot() {
+        return new TreeMap<>(SERIES);
+    }
+
+    public static Map<String, Gauge> gauges() {
+        return new TreeMap<>(GAUGES);
+    }
+
+    public static void reset() {
+        SERIES.clear();
+        GAUGES.clear();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
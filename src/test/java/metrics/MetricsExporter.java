@@ -0,0 +1,112 @@
+package metrics;
+
+import org.HdrHistogram.Histogram;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes LatencyMetrics as Prometheus summaries (quantiles, _sum, _count, plus a _max gauge)
+ * and its duration gauges.
+ *
+ * Each JVM run gets target/metrics/metrics-<timestamp>.prom and the same content in
+ * target/metrics/latest.prom, which a node_exporter textfile collector or a CI step can pick up.
+ * -Dmetrics.format=openmetrics writes the OpenMetrics variant (# UNIT lines and # EOF),
+ * -Dmetrics.dir changes the directory. Exporting again overwrites the files with the totals so far.
+ */
+public class MetricsExporter {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+    private static final String RUN_ID = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+    public static synchronized File export() {
+        Map<String, LatencyMetrics.Series> series = LatencyMetrics.snapshot();
+        Map<String, LatencyMetrics.Gauge> gauges = LatencyMetrics.gauges();
+        if (series.isEmpty() && gauges.isEmpty()) {
+            return null;
+        }
+        boolean openMetrics = "openmetrics".equalsIgnoreCase(System.getProperty("metrics.format"));
+        String text = format(series, gauges, openMetrics);
+
+        File directory = new File(System.getProperty("metrics.dir", "target/metrics"));
+        File runFile = new File(directory, "metrics-" + RUN_ID + ".prom");
+        directory.mkdirs();
+        try {
+            Files.writeString(runFile.toPath(), text, StandardCharsets.UTF_8);
+            Files.copy(runFile.toPath(), new File(directory, "latest.prom").toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write metrics to " + runFile, e);
+        }
+        System.out.println("Latency metrics: " + runFile.getAbsolutePath());
+        return runFile;
+    }
+
+    static String format(Map<String, LatencyMetrics.Series> series, Map<String, LatencyMetrics.Gauge> gauges, boolean openMetrics) {
+        StringBuilder out = new StringBuilder();
+        String currentMetric = null;
+        for (LatencyMetrics.Series s : series.values()) {
+            if (!s.metric().equals(currentMetric)) {
+                currentMetric = s.metric();
+                out.append("# TYPE ").append(currentMetric).append(" summary\n");
+                if (openMetrics) {
+                    out.append("# UNIT ").append(currentMetric).append(" seconds\n");
+                }
+            }
+            Histogram histogram = s.histogram().copy();
+            String labels = s.labels().substring(1, s.labels().length() - 1);
+            String separator = labels.isEmpty() ? "" : ",";
+
+            for (double quantile : QUANTILES) {
+                out.append(s.metric()).append('{').append(labels).append(separator)
+                        .append("quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.getValueAtPercentile(quantile * 100))).append('\n');
+            }
+            out.append(s.metric()).append("_sum").append(s.labels()).append(' ')
+                    .append(seconds(Math.round(histogram.getMean() * histogram.getTotalCount()))).append('\n');
+            out.append(s.metric()).append("_count").append(s.labels()).append(' ').append(histogram.getTotalCount()).append('\n');
+        }
+
+        // Max is not part of a summary; export it as its own gauge per series
+        currentMetric = null;
+        for (LatencyMetrics.Series s : series.values()) {
+            String maxMetric = s.metric().replace("_seconds", "_max_seconds");
+            if (!maxMetric.equals(currentMetric)) {
+                currentMetric = maxMetric;
+                out.append("# TYPE ").append(maxMetric).append(" gauge\n");
+                if (openMetrics) {
+                    out.append("# UNIT ").append(maxMetric).append(" seconds\n");
+                }
+            }
+            out.append(maxMetric).append(s.labels()).append(' ').append(seconds(s.histogram().getMaxValue())).append('\n');
+        }
+
+        currentMetric = null;
+        for (LatencyMetrics.Gauge gauge : gauges.values()) {
+            if (!gauge.metric().equals(currentMetric)) {
+                currentMetric = gauge.metric();
+                out.append("# TYPE ").append(currentMetric).append(" gauge\n");
+                if (openMetrics) {
+                    out.append("# UNIT ").append(currentMetric).append(" seconds\n");
+                }
+            }
+            out.append(gauge.metric()).append(gauge.labels()).append(' ')
+                    .append(String.format(Locale.ROOT, "%.6f", gauge.seconds())).append('\n');
+        }
+
+        if (openMetrics) {
+            out.append("# EOF\n");
+        }
+        return out.toString();
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+}
@@ -0,0 +1,36 @@
+package metrics;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Records the duration of every step, labelled by its step definition
+ * (e.g. "LoginStepDefinitions.i_enter_username"), and exports all metrics at the end of the run.
+ */
+public class StepMetricsPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep step) {
+                LatencyMetrics.record(LatencyMetrics.STEP, event.getResult().getDuration().toNanos(),
+                        "step", stepDefinition(step.getCodeLocation()),
+                        "status", event.getResult().getStatus().name().toLowerCase());
+            }
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, event -> MetricsExporter.export());
+    }
+
+    // "stepDefinitions.LoginStepDefinitions.i_enter_username(java.lang.String)" -> "LoginStepDefinitions.i_enter_username"
+    private static String stepDefinition(String codeLocation) {
+        if (codeLocation == null) {
+            return "undefined";
+        }
+        String method = codeLocation.contains("(") ? codeLocation.substring(0, codeLocation.indexOf('(')) : codeLocation;
+        int classStart = method.lastIndexOf('.', method.lastIndexOf('.') - 1);
+        return method.substring(classStart + 1);
+    }
+}
@@ -0,0 +1,56 @@
+package network;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * URL patterns blocked through Chrome DevTools (Network.setBlockedURLs), optionally together
+ * with every request to another host than the site under test.
+ * Chosen with a scenario tag (@network-lean, @network-strict, @network-none)
+ * or for the whole run with -Dnetwork.profile=lean|strict|none (default none).
+ */
+public enum NetworkProfile {
+
+    NONE(List.of(), false),
+
+    // Images, fonts and media that no assertion looks at (trailing * also matches query strings)
+    LEAN(List.of(
+            "*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*",
+            "*.woff*", "*.ttf*", "*.otf*", "*.eot*",
+            "*.mp4*", "*.webm*", "*.mp3*"), false),
+
+    // LEAN plus every third-party request (any host other than TestEnvironment.webBaseUrl())
+    STRICT(LEAN.blockedUrls, true);
+
+    private static final String TAG_PREFIX = "@network-";
+
+    private final List<String> blockedUrls;
+    private final boolean sameOriginOnly;
+
+    NetworkProfile(List<String> blockedUrls, boolean sameOriginOnly) {
+        this.blockedUrls = blockedUrls;
+        this.sameOriginOnly = sameOriginOnly;
+    }
+
+    public List<String> getBlockedUrls() {
+        return blockedUrls;
+    }
+
+    public boolean isSameOriginOnly() {
+        return sameOriginOnly;
+    }
+
+    public static NetworkProfile forScenario(Collection<String> tags) {
+        for (String tag : tags) {
+            if (tag.startsWith(TAG_PREFIX)) {
+                return fromName(tag.substring(TAG_PREFIX.length()));
+            }
+        }
+        return fromName(System.getProperty("network.profile", "none"));
+    }
+
+    public static NetworkProfile fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
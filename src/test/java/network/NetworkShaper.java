@@ -0,0 +1,92 @@
+package network;
+
+import config.TestEnvironment;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v119.fetch.Fetch;
+import org.openqa.selenium.devtools.v119.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v119.network.Network;
+import org.openqa.selenium.devtools.v119.network.model.ErrorReason;
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies a NetworkProfile to a Chromium session for the length of one scenario and
+ * counts what the browser loaded and what was blocked.
+ */
+public class NetworkShaper {
+
+    private final DevTools devTools;
+    private final NetworkProfile profile;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong blockedRequests = new AtomicLong();
+    private final AtomicLong bytesLoaded = new AtomicLong();
+
+    private NetworkShaper(DevTools devTools, NetworkProfile profile) {
+        this.devTools = devTools;
+        this.profile = profile;
+    }
+
+    // Returns null when there is nothing to block or measure, or the browser has no DevTools (e.g. Firefox).
+    // -Dnetwork.stats=true measures unshaped scenarios too, which gives the baseline for "saved" figures.
+    public static NetworkShaper attach(WebDriver driver, NetworkProfile profile) {
+        boolean measureOnly = profile == NetworkProfile.NONE && Boolean.getBoolean("network.stats");
+        if ((profile == NetworkProfile.NONE && !measureOnly) || !(driver instanceof HasDevTools)) {
+            return null;
+        }
+
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+
+        NetworkShaper shaper = new NetworkShaper(devTools, profile);
+        devTools.addListener(Network.requestWillBeSent(), event -> shaper.requests.incrementAndGet());
+        devTools.addListener(Network.loadingFinished(),
+                event -> shaper.bytesLoaded.addAndGet(event.getEncodedDataLength().longValue()));
+        devTools.addListener(Network.loadingFailed(), event -> {
+            if (event.getBlockedReason().isPresent()) {
+                shaper.blockedRequests.incrementAndGet();
+            }
+        });
+
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.send(Network.setBlockedURLs(profile.getBlockedUrls()));
+        if (profile.isSameOriginOnly()) {
+            shaper.blockOtherHosts(URI.create(TestEnvironment.webBaseUrl()).getHost());
+        }
+        return shaper;
+    }
+
+    // URL patterns cannot express "any other host", so every request is paused and decided here
+    private void blockOtherHosts(String appHost) {
+        devTools.addListener(Fetch.requestPaused(), event -> {
+            String host = URI.create(event.getRequest().getUrl()).getHost();
+            if (host != null && !host.equalsIgnoreCase(appHost)) {
+                blockedRequests.incrementAndGet();
+                devTools.send(Fetch.failRequest(event.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+            } else {
+                devTools.send(Fetch.continueRequest(event.getRequestId(), Optional.empty(), Optional.empty(),
+                        Optional.empty(), Optional.empty(), Optional.empty()));
+            }
+        });
+        devTools.send(Fetch.enable(
+                Optional.of(List.of(new RequestPattern(Optional.of("*"), Optional.empty(), Optional.empty()))),
+                Optional.empty()));
+    }
+
+    // Removes the blocking again so a pooled session starts the next scenario unshaped
+    public NetworkStats detach(String scenarioName) {
+        devTools.clearListeners();
+        if (profile.isSameOriginOnly()) {
+            devTools.send(Fetch.disable());
+        }
+        devTools.send(Network.setBlockedURLs(List.of()));
+        devTools.send(Network.disable());
+
+        NetworkStats stats = new NetworkStats(scenarioName, profile, requests.get(), blockedRequests.get(), bytesLoaded.get());
+        NetworkStats.record(stats);
+        return stats;
+    }
+}
@@ -0,0 +1,53 @@
+package network;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public record NetworkStats(String scenario, NetworkProfile profile, long requests, long blockedRequests, long bytesLoaded) {
+
+    // Latest result per scenario and profile, so a run with -Dnetwork.stats=true and no blocking serves as the baseline
+    private static final Map<String, Map<NetworkProfile, NetworkStats>> RESULTS = new ConcurrentHashMap<>();
+
+    static void record(NetworkStats stats) {
+        RESULTS.computeIfAbsent(stats.scenario(), k -> new EnumMap<>(NetworkProfile.class));
+        synchronized (RESULTS) {
+            RESULTS.get(stats.scenario()).put(stats.profile(), stats);
+        }
+    }
+
+    public long loadedRequests() {
+        return requests - blockedRequests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("network profile %s: %d requests, %d blocked, %.1f KB loaded",
+                profile, requests, blockedRequests, bytesLoaded / 1024.0);
+    }
+
+    public static void printSummary() {
+        if (RESULTS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Network Shaping Summary ===");
+        System.out.printf("%-55s %-7s %9s %8s %11s %12s %11s%n",
+                "scenario", "profile", "requests", "blocked", "KB loaded", "req saved", "KB saved");
+
+        synchronized (RESULTS) {
+            new TreeMap<>(RESULTS).forEach((scenario, byProfile) -> {
+                NetworkStats baseline = byProfile.get(NetworkProfile.NONE);
+                byProfile.values().forEach(stats -> System.out.printf("%-55s %-7s %9d %8d %11.1f %12s %11s%n",
+                        abbreviate(scenario), stats.profile(), stats.requests(), stats.blockedRequests(),
+                        stats.bytesLoaded() / 1024.0,
+                        baseline == null ? "-" : String.valueOf(baseline.loadedRequests() - stats.loadedRequests()),
+                        baseline == null ? "-" : String.format("%.1f", (baseline.bytesLoaded() - stats.bytesLoaded()) / 1024.0)));
+            });
+        }
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() <= 55 ? text : text.substring(0, 52) + "...";
+    }
+}
@@ -4,16 +4,36 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import locators.PageElements;
+import waits.ElementProbe;
+import waits.SmartWait;
+import waits.TimedWait;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 public class HomePage {
 
+    private static final String EXTRACT_INVENTORY_SCRIPT =
+            "function text(item, selector) {"
+            + "  var element = item.querySelector(selector);"
+            + "  return element ? element.innerText.trim() : null;"
+            + "}"
+            + "return Array.prototype.map.call(document.querySelectorAll('.inventory_item'), function (item) {"
+            + "  return {"
+            + "    name: text(item, '.inventory_item_name'),"
+            + "    description: text(item, '.inventory_item_desc'),"
+            + "    price: text(item, '.inventory_item_price'),"
+            + "    buttonText: text(item, 'button')"
+            + "  };"
+            + "});";
+
     private WebDriver driver;
     private WebDriverWait wait;
+    private SmartWait smartWait;
+    private SmartWait menuWait;
 
     @FindBy(className = "app_logo")
     private WebElement appLogo;
@@ -34,10 +54,7 @@ public class HomePage {
     private List<WebElement> inventoryItems;
 
     @FindBy(css = ".inventory_item_name")
-    private List<WebElement> productNames;
-
-    @FindBy(css = ".inventory_item_price")
-    private List<WebElement> productPrices;
+    private WebElement firstProductName;
 
     @FindBy(css = ".title")
     private WebElement pageTitle;
@@ -47,8 +64,10 @@ public class HomePage {
 
     public HomePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.wait = new TimedWait(driver, Duration.ofSeconds(10));
+        this.smartWait = new SmartWait(driver, Duration.ofSeconds(10));
+        this.menuWait = new SmartWait(driver, Duration.ofSeconds(2));
+        PageElements.init(driver, this);
     }
 
     public boolean isHomePageDisplayed() {
@@ -73,9 +92,11 @@ public class HomePage {
         return driver.getCurrentUrl();
     }
 
+    // The logo is expected to be there, so this waits for it; ElementProbe is for absence checks
     public boolean isAppLogoDisplayed() {
         try {
-            return appLogo.isDisplayed();
+            wait.until(ExpectedConditions.visibilityOf(appLogo));
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -87,16 +108,26 @@ public class HomePage {
     }
 
     public List<String> getProductNames() {
-        wait.until(ExpectedConditions.visibilityOfAllElements(productNames));
-        return productNames.stream()
-                .map(WebElement::getText)
+        return getInventoryItems().stream()
+                .map(InventoryItem::name)
                 .toList();
     }
 
     public List<String> getProductPrices() {
-        wait.until(ExpectedConditions.visibilityOfAllElements(productPrices));
-        return productPrices.stream()
-                .map(WebElement::getText)
+        return getInventoryItems().stream()
+                .map(InventoryItem::price)
+                .toList();
+    }
+
+    // Reads every .inventory_item in one executeScript call instead of one getText() round trip per element.
+    // The wait is on the first product only, so it costs the same for 6 items as for 1,000.
+    @SuppressWarnings("unchecked")
+    public List<InventoryItem> getInventoryItems() {
+        wait.until(ExpectedConditions.visibilityOf(firstProductName));
+        List<Map<String, Object>> items = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(EXTRACT_INVENTORY_SCRIPT);
+        return items.stream()
+                .map(InventoryItem::fromMap)
                 .toList();
     }
 
@@ -106,22 +137,27 @@ public class HomePage {
         try {
             wait.until(ExpectedConditions.elementToBeClickable(menuButton));
             menuButton.click();
-            Thread.sleep(1000);
-            menuOpened = isMenuOpen();
+            menuOpened = waitForMenuToOpen();
         } catch (Exception e1) {
+            // Fall through to the JavaScript click
+        }
+
+        if (!menuOpened) {
             try {
                 JavascriptExecutor js = (JavascriptExecutor) driver;
                 js.executeScript("arguments[0].click();", menuButton);
-                Thread.sleep(1000);
-                menuOpened = isMenuOpen();
+                menuOpened = waitForMenuToOpen();
             } catch (Exception e2) {
-                try {
-                    alternativeMenuButton.click();
-                    Thread.sleep(1000);
-                    menuOpened = isMenuOpen();
-                } catch (Exception e3) {
-                    System.err.println("Failed to open menu with all approaches");
-                }
+                // Fall through to the alternative menu button
+            }
+        }
+
+        if (!menuOpened) {
+            try {
+                alternativeMenuButton.click();
+                menuOpened = waitForMenuToOpen();
+            } catch (Exception e3) {
+                System.err.println("Failed to open menu with all approaches");
             }
         }
 
@@ -130,12 +166,12 @@ public class HomePage {
         }
     }
 
+    private boolean waitForMenuToOpen() {
+        return menuWait.isSatisfied("menuOpen", d -> isMenuOpen());
+    }
+
     private boolean isMenuOpen() {
-        try {
-            return logoutLink.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return ElementProbe.isDisplayed(driver, "menuOpen", logoutLink);
     }
 
     public void clickLogout() {
@@ -143,6 +179,7 @@ public class HomePage {
             openMenu();
         }
 
+        String inventoryUrl = driver.getCurrentUrl();
         try {
             wait.until(ExpectedConditions.visibilityOf(logoutLink));
             wait.until(ExpectedConditions.elementToBeClickable(logoutLink));
@@ -159,6 +196,8 @@ public class HomePage {
                 }
             }
         }
+
+        smartWait.untilUrlChangesFrom("logoutRedirect", inventoryUrl);
     }
 
     public void waitForPageToLoad() {
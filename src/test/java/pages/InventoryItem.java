@@ -0,0 +1,23 @@
+package pages;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record InventoryItem(String name, String description, String price, String buttonText) {
+
+    static InventoryItem fromMap(Map<String, Object> values) {
+        return new InventoryItem(
+                (String) values.get("name"),
+                (String) values.get("description"),
+                (String) values.get("price"),
+                (String) values.get("buttonText"));
+    }
+
+    // null when the item has no price element
+    public BigDecimal priceValue() {
+        if (price == null) {
+            return null;
+        }
+        return new BigDecimal(price.replace("$", "").trim());
+    }
+}
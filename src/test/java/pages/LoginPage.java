@@ -1,17 +1,46 @@
 package pages;
 
+import config.TestEnvironment;
+import drivers.DriverFactory;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import locators.PageElements;
+import waits.ElementProbe;
+import waits.SmartWait;
+import waits.TimedWait;
+import waits.WaitBudgets;
+import waits.WaitStats;
 import java.time.Duration;
 
 public class LoginPage {
 
+    // Sets both fields through the native value setter and fires input/change, which is what React
+    // listens to (a plain .value assignment is ignored), then submits after the script has returned
+    private static final String FAST_LOGIN_SCRIPT =
+            "var setValue = Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set;"
+            + "function fill(id, value) {"
+            + "  var input = document.getElementById(id);"
+            + "  setValue.call(input, value);"
+            + "  input.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  input.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "fill('user-name', arguments[0]);"
+            + "fill('password', arguments[1]);"
+            + "setTimeout(function () { document.getElementById('login-button').click(); }, 0);"
+            + "return window.location.href;";
+
+    private static final String LOGIN_RESULT_SCRIPT =
+            "return window.location.href !== arguments[0] || document.querySelector(\"[data-test='error']\") !== null;";
+
     private WebDriver driver;
     private WebDriverWait wait;
+    private SmartWait smartWait;
 
     @FindBy(id = "user-name")
     private WebElement usernameField;
@@ -33,12 +62,29 @@ public class LoginPage {
 
     public LoginPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.wait = new TimedWait(driver, Duration.ofSeconds(10));
+        this.smartWait = new SmartWait(driver, Duration.ofSeconds(10));
+        PageElements.init(driver, this);
+    }
+
+    public String getBaseUrl() {
+        return TestEnvironment.webBaseUrl();
     }
 
     public void navigateToLoginPage() {
-        driver.get("https://www.saucedemo.com/");
+        long start = System.nanoTime();
+        try {
+            driver.get(getBaseUrl());
+            long elapsed = System.nanoTime() - start;
+            WaitBudgets.Budget budget = WaitBudgets.budget("pageLoad", DriverFactory.PAGE_LOAD_TIMEOUT);
+            if (budget.learned() && elapsed > budget.timeout().toNanos()) {
+                WaitStats.recordBudgetMiss("pageLoad");
+            }
+            WaitStats.record("pageLoad", elapsed, false);
+        } catch (TimeoutException e) {
+            WaitStats.record("pageLoad", System.nanoTime() - start, true);
+            throw e;
+        }
     }
 
     public void enterUsername(String username) {
@@ -58,6 +104,20 @@ public class LoginPage {
         loginButton.click();
     }
 
+    // Fast path for data-driven scenarios: one script fills and submits the form, then a single
+    // wait for either a navigation or an error message. Use the methods above when typing matters.
+    public void fastLogin(String username, String password) {
+        String loginUrl = (String) ((JavascriptExecutor) driver).executeScript(FAST_LOGIN_SCRIPT, username, password);
+        smartWait.until("fastLoginResult", d -> {
+            try {
+                return (Boolean) ((JavascriptExecutor) d).executeScript(LOGIN_RESULT_SCRIPT, loginUrl);
+            } catch (WebDriverException e) {
+                // The document is being replaced by the navigation we are waiting for
+                return false;
+            }
+        });
+    }
+
     public String getErrorMessage() {
         try {
             wait.until(ExpectedConditions.visibilityOf(errorMessage));
@@ -68,8 +128,13 @@ public class LoginPage {
     }
 
     public boolean isErrorMessageDisplayed() {
+        return ElementProbe.isDisplayed(driver, "errorMessage", errorMessage);
+    }
+
+    public boolean waitForErrorMessage() {
         try {
-            return errorMessage.isDisplayed();
+            wait.until(ExpectedConditions.visibilityOf(errorMessage));
+            return true;
         } catch (Exception e) {
             return false;
         }
@@ -0,0 +1,82 @@
+package reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Writes one Allure *-result.json per finished scenario, so `allure serve` on the
+ * directory shows the run so far and only ever reads the current run.
+ */
+class AllureResultWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final File directory;
+
+    AllureResultWriter(File directory) {
+        this.directory = directory;
+    }
+
+    void write(ScenarioResult result) throws IOException {
+        String uuid = UUID.randomUUID().toString();
+        ObjectNode json = MAPPER.createObjectNode();
+        json.put("uuid", uuid);
+        json.put("historyId", UUID.nameUUIDFromBytes(result.scenarioKey().getBytes(StandardCharsets.UTF_8)).toString());
+        json.put("testCaseId", result.scenarioKey());
+        json.put("name", result.name());
+        json.put("fullName", result.scenarioKey());
+        json.put("status", allureStatus(result.status(), result.error()));
+        json.put("stage", "finished");
+        json.put("start", result.startedAt());
+        json.put("stop", result.startedAt() + result.durationMillis());
+        if (result.error() != null) {
+            String message = result.error().lines().findFirst().orElse("");
+            json.putObject("statusDetails").put("message", message).put("trace", result.error());
+        }
+
+        ArrayNode labels = json.putArray("labels");
+        labels.addObject().put("name", "feature").put("value", result.feature());
+        labels.addObject().put("name", "suite").put("value", result.feature());
+        labels.addObject().put("name", "thread").put("value", result.thread());
+        labels.addObject().put("name", "framework").put("value", "cucumberjvm");
+        result.tags().forEach(tag -> labels.addObject().put("name", "tag").put("value", tag.substring(1)));
+
+        ArrayNode steps = json.putArray("steps");
+        long stepStart = result.startedAt();
+        for (ScenarioResult.StepResult step : result.steps()) {
+            ObjectNode stepJson = steps.addObject();
+            stepJson.put("name", step.text());
+            stepJson.put("status", allureStatus(step.status(), step.error()));
+            stepJson.put("stage", "finished");
+            stepJson.put("start", stepStart);
+            stepJson.put("stop", stepStart + step.durationMillis());
+            stepStart += step.durationMillis();
+        }
+
+        // Written under a temporary name first so a report generated mid-run never reads half a file
+        File tmp = new File(directory, uuid + "-result.json.tmp");
+        MAPPER.writeValue(tmp, json);
+        if (!tmp.renameTo(new File(directory, uuid + "-result.json"))) {
+            throw new IOException("Could not rename " + tmp);
+        }
+    }
+
+    // Assertion failures are test failures in Allure; any other exception marks the test broken
+    private static boolean isAssertion(String stackTrace) {
+        String exception = stackTrace.lines().findFirst().orElse("");
+        return exception.contains("AssertionError") || exception.contains("AssertionFailedError");
+    }
+
+    private static String allureStatus(String status, String error) {
+        return switch (status) {
+            case "PASSED" -> "passed";
+            case "FAILED" -> error != null && isAssertion(error) ? "failed" : "broken";
+            default -> "skipped";
+        };
+    }
+}
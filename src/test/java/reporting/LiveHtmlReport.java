@@ -0,0 +1,63 @@
+package reporting;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * HTML page that grows by one table row per finished scenario. Browsers render the
+ * unterminated table, so the page can be refreshed while the suite is still running.
+ */
+class LiveHtmlReport {
+
+    private final BufferedWriter writer;
+    private int passed;
+    private int failed;
+    private int skipped;
+
+    LiveHtmlReport(Path file) {
+        try {
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write("<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Cucumber results</title>"
+                    + "<style>body{font-family:sans-serif}td,th{padding:2px 8px;text-align:left;vertical-align:top}"
+                    + ".PASSED{color:#2e7d32}.FAILED{color:#c62828}.SKIPPED{color:#9e9e9e}pre{margin:0}</style></head><body>"
+                    + "<h1>Cucumber results</h1><p>Started " + Instant.now() + "</p><table><tr><th>status</th>"
+                    + "<th>scenario</th><th>feature</th><th>tags</th><th>ms</th><th>thread</th></tr>\n");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create " + file, e);
+        }
+    }
+
+    synchronized void append(ScenarioResult result) throws IOException {
+        switch (result.status()) {
+            case "PASSED" -> passed++;
+            case "FAILED" -> failed++;
+            default -> skipped++;
+        }
+        writer.write("<tr><td class=\"" + result.status() + "\">" + result.status() + "</td><td>" + escape(result.name())
+                + (result.error() == null ? "" : "<pre>" + escape(firstLine(result.error())) + "</pre>")
+                + "</td><td>" + escape(result.scenarioKey()) + "</td><td>" + escape(String.join(" ", result.tags()))
+                + "</td><td>" + result.durationMillis() + "</td><td>" + escape(result.thread()) + "</td></tr>\n");
+        writer.flush();
+    }
+
+    synchronized void close() throws IOException {
+        writer.write("</table><p>Finished " + Instant.now() + ": " + passed + " passed, " + failed + " failed, "
+                + skipped + " skipped</p></body></html>\n");
+        writer.close();
+    }
+
+    private static String firstLine(String text) {
+        int newline = text.indexOf('\n');
+        return newline < 0 ? text : text.substring(0, newline);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
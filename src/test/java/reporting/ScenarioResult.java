@@ -0,0 +1,13 @@
+package reporting;
+
+import java.util.List;
+
+/**
+ * One finished scenario, as written to results.ndjson.
+ */
+public record ScenarioResult(String scenarioKey, String feature, String name, List<String> tags, String status,
+                             long startedAt, long durationMillis, String thread, String error, List<StepResult> steps) {
+
+    public record StepResult(String text, String status, long durationMillis, String error) {
+    }
+}
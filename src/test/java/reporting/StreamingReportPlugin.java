@@ -0,0 +1,143 @@
+package reporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import impact.ImpactMap;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams every finished scenario into an output directory instead of dumping one big
+ * report at the end of the run:
+ * <ul>
+ *   <li>results.ndjson - one JSON line per scenario, appended and flushed as it finishes</li>
+ *   <li>index.html - a table that grows by one row per scenario</li>
+ *   <li>allure-results/ - one Allure result file per scenario</li>
+ * </ul>
+ * The directory is emptied when the run starts, so report size and generation time depend
+ * on the current run only. Usage: "reporting.StreamingReportPlugin:target/cucumber-reports/live".
+ */
+public class StreamingReportPlugin implements ConcurrentEventListener {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final File directory;
+    private final Map<UUID, Long> startedAt = new ConcurrentHashMap<>();
+    private final Map<UUID, List<ScenarioResult.StepResult>> steps = new ConcurrentHashMap<>();
+    private BufferedWriter ndjson;
+    private LiveHtmlReport html;
+    private AllureResultWriter allure;
+
+    public StreamingReportPlugin() {
+        this("target/cucumber-reports/live");
+    }
+
+    public StreamingReportPlugin(String directory) {
+        this.directory = new File(directory);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> open());
+        publisher.registerHandlerFor(TestCaseStarted.class, event -> {
+            startedAt.put(event.getTestCase().getId(), event.getInstant().toEpochMilli());
+            steps.put(event.getTestCase().getId(), new ArrayList<>());
+        });
+        publisher.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep step) {
+                Result result = event.getResult();
+                steps.get(event.getTestCase().getId()).add(new ScenarioResult.StepResult(
+                        step.getStep().getKeyword() + step.getStep().getText(),
+                        result.getStatus().name(), result.getDuration().toMillis(), stackTrace(result.getError())));
+            }
+        });
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> append(event.getTestCase(), event.getResult()));
+        publisher.registerHandlerFor(TestRunFinished.class, event -> close());
+    }
+
+    private void open() {
+        File allureDirectory = new File(directory, "allure-results");
+        try {
+            if (allureDirectory.exists()) {
+                for (File old : allureDirectory.listFiles()) {
+                    Files.delete(old.toPath());
+                }
+            }
+            allureDirectory.mkdirs();
+            ndjson = Files.newBufferedWriter(new File(directory, "results.ndjson").toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare report directory " + directory, e);
+        }
+        html = new LiveHtmlReport(new File(directory, "index.html").toPath());
+        allure = new AllureResultWriter(allureDirectory);
+    }
+
+    private void append(TestCase testCase, Result result) {
+        String uri = testCase.getUri().toString();
+        ScenarioResult scenario = new ScenarioResult(
+                ImpactMap.scenarioKey(uri, testCase.getLocation().getLine()),
+                uri.substring(uri.lastIndexOf('/') + 1),
+                testCase.getName(),
+                testCase.getTags(),
+                result.getStatus().name(),
+                startedAt.remove(testCase.getId()),
+                result.getDuration().toMillis(),
+                Thread.currentThread().getName(),
+                stackTrace(result.getError()),
+                steps.remove(testCase.getId()));
+
+        try {
+            String line = MAPPER.writeValueAsString(scenario);
+            synchronized (this) {
+                ndjson.write(line);
+                ndjson.newLine();
+                ndjson.flush();
+            }
+            html.append(scenario);
+            allure.write(scenario);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append result of " + scenario.scenarioKey(), e);
+        }
+    }
+
+    private void close() {
+        try {
+            synchronized (this) {
+                ndjson.close();
+            }
+            html.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close reports in " + directory, e);
+        }
+        System.out.println("Streaming reports: " + new File(directory, "index.html").getAbsolutePath());
+    }
+
+    private static String stackTrace(Throwable error) {
+        if (error == null) {
+            return null;
+        }
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package retry;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Recent retry outcomes per scenario, one tab-separated line per scenario:
+ * "features/login.feature:84  <history>  <quarantined>", where history holds the last
+ * flaky.window (default 20) outcomes, oldest first: P passed, F passed after a retry, X failed every attempt.
+ * Stored in target/flaky/flake-rates.tsv (-Dflaky.store to change).
+ *
+ * A scenario is quarantined once at least quarantine.minRuns (default 5) runs are known and its
+ * flake rate reaches quarantine.threshold (default 0.2). It is released again after
+ * quarantine.minRuns first-attempt passes in a row.
+ */
+public class FlakeStore {
+
+    public enum Outcome {
+        PASSED('P'), FLAKY('F'), FAILED('X');
+
+        private final char code;
+
+        Outcome(char code) {
+            this.code = code;
+        }
+    }
+
+    private static final int WINDOW = Integer.getInteger("flaky.window", 20);
+    private static final int MIN_RUNS = Integer.getInteger("quarantine.minRuns", 5);
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("quarantine.threshold", "0.2"));
+
+    private final File file;
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    public record Entry(String history, boolean quarantined) {
+
+        /**
+         * Share of recent runs that did not pass on the first attempt. A scenario that has not
+         * passed once in the window is broken rather than flaky and reports 0, so it keeps failing
+         * the build instead of being quarantined away.
+         */
+        public double flakeRate() {
+            if (history.isEmpty() || history.chars().noneMatch(c -> c == 'P' || c == 'F')) {
+                return 0;
+            }
+            return (double) history.chars().filter(c -> c != 'P').count() / history.length();
+        }
+
+        Entry add(Outcome outcome) {
+            String recent = history + outcome.code;
+            recent = recent.substring(Math.max(0, recent.length() - WINDOW));
+            Entry next = new Entry(recent, quarantined);
+            // Only a new failure can quarantine, so a just-released scenario is not re-quarantined by its old history
+            if (!quarantined && outcome != Outcome.PASSED && recent.length() >= MIN_RUNS && next.flakeRate() >= THRESHOLD) {
+                return new Entry(recent, true);
+            }
+            if (quarantined && recent.endsWith("P".repeat(MIN_RUNS))) {
+                return new Entry(recent, false);
+            }
+            return next;
+        }
+    }
+
+    private FlakeStore(File file) {
+        this.file = file;
+    }
+
+    public static FlakeStore load() {
+        FlakeStore store = new FlakeStore(new File(System.getProperty("flaky.store", "target/flaky/flake-rates.tsv")));
+        if (store.file.exists()) {
+            try {
+                for (String line : Files.readAllLines(store.file.toPath(), StandardCharsets.UTF_8)) {
+                    String[] columns = line.split("\t");
+                    if (columns.length == 3) {
+                        store.entries.put(columns[0], new Entry(columns[1], Boolean.parseBoolean(columns[2])));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read flake store " + store.file, e);
+            }
+        }
+        return store;
+    }
+
+    public void save() {
+        List<String> lines = new ArrayList<>();
+        entries.forEach((key, entry) -> lines.add(key + "\t" + entry.history() + "\t" + entry.quarantined()));
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try {
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write flake store " + file, e);
+        }
+    }
+
+    /** Adds one run and returns the updated entry, whose quarantine flag may have flipped. */
+    public Entry record(String scenarioKey, Outcome outcome) {
+        return entries.merge(scenarioKey, new Entry("", false).add(outcome), (old, ignored) -> old.add(outcome));
+    }
+
+    public boolean isQuarantined(String scenarioKey) {
+        Entry entry = entries.get(scenarioKey);
+        return entry != null && entry.quarantined();
+    }
+
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+}
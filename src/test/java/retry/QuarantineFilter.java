@@ -0,0 +1,40 @@
+package retry;
+
+import impact.ImpactMap;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Keeps quarantined scenarios out of the main run. A scenario is quarantined when it is tagged
+ * @quarantine or when the flake store has quarantined it (see FlakeStore).
+ *
+ * -Dquarantine.mode:
+ * - exclude (default): quarantined scenarios do not run
+ * - include: they run, but RetryingRunner does not fail the build on them
+ * - only: just the quarantined scenarios, e.g. for a separate non-blocking CI job
+ */
+public class QuarantineFilter implements PostDiscoveryFilter {
+
+    private static final TestTag QUARANTINE_TAG = TestTag.create("quarantine");
+
+    private final String mode = System.getProperty("quarantine.mode", "exclude").toLowerCase();
+    private FlakeStore store;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        String scenarioKey = ImpactMap.scenarioKey(descriptor);
+        if (scenarioKey == null || mode.equals("include")) {
+            return FilterResult.included("quarantine not applicable");
+        }
+        if (store == null) {
+            store = FlakeStore.load();
+        }
+        boolean quarantined = descriptor.getTags().contains(QUARANTINE_TAG) || store.isQuarantined(scenarioKey);
+        if (mode.equals("only")) {
+            return quarantined ? FilterResult.included("quarantined") : FilterResult.excluded("not quarantined");
+        }
+        return quarantined ? FilterResult.excluded("quarantined") : FilterResult.included("not quarantined");
+    }
+}
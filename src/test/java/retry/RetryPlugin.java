@@ -0,0 +1,58 @@
+package retry;
+
+import impact.ImpactMap;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the result of every scenario of the current attempt for RetryingRunner.
+ * Registered in the runner plugin lists; outside RetryingRunner nobody drains it and
+ * it only holds one small entry per scenario.
+ */
+public class RetryPlugin implements ConcurrentEventListener {
+
+    private static final Map<String, Attempt> ATTEMPTS = new ConcurrentHashMap<>();
+
+    /** nodeFailure: the browser session was lost (e.g. its grid node went down), not an assertion or page problem. */
+    public record Attempt(String name, List<String> tags, boolean failed, String error, boolean nodeFailure) {
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            TestCase testCase = event.getTestCase();
+            // Undefined or pending steps fail the same way on every attempt, so only real failures count
+            boolean failed = event.getResult().getStatus() == Status.FAILED;
+            Throwable error = event.getResult().getError();
+            ATTEMPTS.put(ImpactMap.scenarioKey(testCase.getUri().toString(), testCase.getLocation().getLine()),
+                    new Attempt(testCase.getName(), testCase.getTags(), failed,
+                            error == null ? null : String.valueOf(error.getMessage()).lines().findFirst().orElse(""),
+                            failed && isSessionLost(error)));
+        });
+    }
+
+    private static boolean isSessionLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnreachableBrowserException || cause instanceof NoSuchSessionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the attempts collected since the last call and starts a new collection. */
+    public static Map<String, Attempt> drain() {
+        Map<String, Attempt> attempts = new HashMap<>(ATTEMPTS);
+        ATTEMPTS.keySet().removeAll(attempts.keySet());
+        return attempts;
+    }
+}
@@ -0,0 +1,57 @@
+package retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Which scenarios RetryingRunner may re-run, how often, and how long it waits in between.
+ *
+ * Tags:
+ * - @retry: up to retry.attempts extra attempts (default 2)
+ * - @retry-N: up to N extra attempts
+ * - @no-retry: never retried, even when it has one of the retry.tags
+ *
+ * System properties:
+ * - retry.tags (e.g. "@positive,@smoke"): scenarios with one of these tags are retried like @retry
+ * - retry.backoff.ms (default 500): wait before the first retry, doubled for every further one
+ * - retry.backoff.maxMs (default 5000)
+ * - retry.session (default pooled): "fresh" quits the browser of a failed scenario instead of
+ *   returning it to the pool, so the retry starts on a new session
+ */
+public final class RetryPolicy {
+
+    private static final Pattern RETRY_TAG = Pattern.compile("@retry-(\\d+)");
+
+    private RetryPolicy() {
+    }
+
+    public static int maxRetries(Collection<String> tags) {
+        if (tags.contains("@no-retry")) {
+            return 0;
+        }
+        for (String tag : tags) {
+            Matcher matcher = RETRY_TAG.matcher(tag);
+            if (matcher.matches()) {
+                return Integer.parseInt(matcher.group(1));
+            }
+        }
+        boolean retryable = tags.contains("@retry") || Arrays.stream(System.getProperty("retry.tags", "").split(","))
+                .map(String::trim)
+                .anyMatch(tags::contains);
+        return retryable ? Integer.getInteger("retry.attempts", 2) : 0;
+    }
+
+    // retry is 1 for the first retry
+    public static Duration backoff(int retry) {
+        long base = Long.getLong("retry.backoff.ms", 500);
+        long max = Long.getLong("retry.backoff.maxMs", 5000);
+        return Duration.ofMillis(Math.min(max, base << Math.min(retry - 1, 20)));
+    }
+
+    public static boolean freshSessionOnFailure() {
+        return System.getProperty("retry.session", "pooled").equalsIgnoreCase("fresh");
+    }
+}
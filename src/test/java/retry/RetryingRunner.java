@@ -0,0 +1,149 @@
+package retry;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.discovery.FilePosition;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import runners.TestRunner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+
+/**
+ * ./gradlew retryTest
+ *
+ * Runs the TestRunner suite once, then re-runs only the failed scenarios that RetryPolicy allows
+ * (and, once, those whose browser session was lost),
+ * with backoff between attempts, in the same JVM so the warm DriverPool sessions are reused.
+ * Every outcome goes into the FlakeStore, which quarantines scenarios whose flake rate is too high.
+ * Exits with 1 when a scenario that was not quarantined at the start of the run still fails.
+ */
+public class RetryingRunner {
+
+    public static void main(String[] args) {
+        FlakeStore store = FlakeStore.load();
+        Launcher launcher = LauncherFactory.create();
+
+        RetryPlugin.drain();
+        launcher.execute(LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectClass(TestRunner.class))
+                .filters(EngineFilter.includeEngines("junit-platform-suite"))
+                .build());
+
+        Map<String, RetryPlugin.Attempt> attempts = new TreeMap<>(RetryPlugin.drain());
+        Map<String, FlakeStore.Outcome> outcomes = new TreeMap<>();
+        Map<String, RetryPlugin.Attempt> failing = new TreeMap<>();
+        attempts.forEach((key, attempt) -> {
+            if (attempt.failed()) {
+                failing.put(key, attempt);
+            } else {
+                outcomes.put(key, FlakeStore.Outcome.PASSED);
+            }
+        });
+
+        for (int retry = 1; !failing.isEmpty(); retry++) {
+            int current = retry;
+            failing.entrySet().removeIf(entry -> {
+                boolean exhausted = maxRetries(entry.getValue()) < current;
+                if (exhausted) {
+                    outcomes.put(entry.getKey(), FlakeStore.Outcome.FAILED);
+                }
+                return exhausted;
+            });
+            if (failing.isEmpty()) {
+                break;
+            }
+
+            long backoff = RetryPolicy.backoff(retry).toMillis();
+            System.out.println("\nRetry " + retry + " of " + failing.size() + " scenario(s) after " + backoff + " ms: "
+                    + String.join(" ", failing.keySet()));
+            sleep(backoff);
+            launcher.execute(retryRequest(failing.keySet(), retry));
+
+            Map<String, RetryPlugin.Attempt> retried = RetryPlugin.drain();
+            failing.entrySet().removeIf(entry -> {
+                RetryPlugin.Attempt attempt = retried.get(entry.getKey());
+                if (attempt != null && !attempt.failed()) {
+                    // A scenario that only lost its session is not flaky itself
+                    outcomes.put(entry.getKey(), entry.getValue().nodeFailure() ? FlakeStore.Outcome.PASSED : FlakeStore.Outcome.FLAKY);
+                    return true;
+                }
+                if (attempt != null) {
+                    entry.setValue(attempt);
+                }
+                return false;
+            });
+        }
+
+        List<String> blocking = new ArrayList<>();
+        System.out.println("\n=== Retry Summary ===");
+        outcomes.forEach((key, outcome) -> {
+            RetryPlugin.Attempt attempt = attempts.get(key);
+            boolean quarantined = store.isQuarantined(key) || attempt.tags().contains("@quarantine");
+            FlakeStore.Entry entry = store.record(key, outcome);
+
+            if (outcome == FlakeStore.Outcome.FAILED && !quarantined) {
+                blocking.add(key);
+            }
+            if (outcome != FlakeStore.Outcome.PASSED || quarantined != entry.quarantined()) {
+                System.out.printf("%-8s %-32s flake rate %3.0f%% [%s]%s  %s%n", outcome, key, entry.flakeRate() * 100,
+                        entry.history(), quarantineChange(quarantined, entry.quarantined()), attempt.name());
+            }
+        });
+        store.save();
+
+        long flaky = outcomes.values().stream().filter(outcome -> outcome == FlakeStore.Outcome.FLAKY).count();
+        long failed = outcomes.values().stream().filter(outcome -> outcome == FlakeStore.Outcome.FAILED).count();
+        System.out.println("Scenarios: " + outcomes.size() + ", passed after retry: " + flaky + ", failed: " + failed
+                + " (" + (failed - blocking.size()) + " quarantined)");
+        System.exit(blocking.isEmpty() ? 0 : 1);
+    }
+
+    // A lost session says nothing about the scenario, so it gets at least one retry (on another grid node)
+    private static int maxRetries(RetryPlugin.Attempt attempt) {
+        int allowed = RetryPolicy.maxRetries(attempt.tags());
+        return attempt.nodeFailure() && !attempt.tags().contains("@no-retry") ? Math.max(1, allowed) : allowed;
+    }
+
+    // The retries get their own report directory, so the live report of the first pass is kept
+    private static LauncherDiscoveryRequest retryRequest(Iterable<String> scenarioKeys, int retry) {
+        List<DiscoverySelector> selectors = new ArrayList<>();
+        for (String key : scenarioKeys) {
+            int colon = key.lastIndexOf(':');
+            selectors.add(DiscoverySelectors.selectClasspathResource(key.substring(0, colon),
+                    FilePosition.from(Integer.parseInt(key.substring(colon + 1)))));
+        }
+        return LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectors)
+                .filters(EngineFilter.includeEngines("cucumber"))
+                .configurationParameter(GLUE_PROPERTY_NAME, "stepDefinitions")
+                .configurationParameter(PLUGIN_PROPERTY_NAME, "pretty,"
+                        + "reporting.StreamingReportPlugin:target/cucumber-reports/retry-" + retry + ","
+                        + "retry.RetryPlugin,"
+                        + "metrics.StepMetricsPlugin")
+                .build();
+    }
+
+    private static String quarantineChange(boolean before, boolean after) {
+        if (before == after) {
+            return after ? " quarantined" : "";
+        }
+        return after ? " -> QUARANTINED" : " -> released from quarantine";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
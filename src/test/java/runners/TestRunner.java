@@ -2,23 +2,35 @@ package runners;
 
 import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
 import org.junit.runner.RunWith;
 
-@RunWith(Cucumber.class)
-@CucumberOptions(
-        features = "src/test/resources/features",
-        glue = {"stepDefinitions"},
-        plugin = {
-                "pretty",
-                "html:target/cucumber-reports/index.html",
-                "json:target/cucumber-reports/cucumber.json",
-                "junit:target/cucumber-reports/cucumber.xml",
-                "timeline:target/cucumber-reports/timeline"
-        },
-        monochrome = true,
-        publish = true,
-        tags = "@smoke or @positive or @negative or @boundary"
-)
+import static io.cucumber.junit.platform.engine.Constants.ANSI_COLORS_DISABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PLUGIN_PUBLISH_ENABLED_PROPERTY_NAME;
+
+// Runs on the JUnit Platform Cucumber engine. Parallel execution and the default tag
+// expression live in junit-platform.properties so they can be overridden with -D flags.
+// All scenarios report through one set of plugins, so the reports stay complete when scenarios
+// run on several threads. StreamingReportPlugin appends each scenario as it finishes
+// (NDJSON, live HTML and Allure results) instead of writing whole-run JSON/HTML dumps at the end.
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "stepDefinitions")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty,"
+        + "reporting.StreamingReportPlugin:target/cucumber-reports/live,"
+        + "junit:target/cucumber-reports/cucumber.xml,"
+        + "timeline:target/cucumber-reports/timeline,"
+        + "impact.ImpactRecorderPlugin,"
+        + "metrics.StepMetricsPlugin,"
+        + "retry.RetryPlugin")
+@ConfigurationParameter(key = ANSI_COLORS_DISABLED_PROPERTY_NAME, value = "true")
+@ConfigurationParameter(key = PLUGIN_PUBLISH_ENABLED_PROPERTY_NAME, value = "true")
 public class TestRunner {
 }
 
@@ -28,8 +40,7 @@ public class TestRunner {
         glue = {"stepDefinitions"},
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/smoke-html",
-                "json:target/cucumber-reports/smoke.json"
+                "reporting.StreamingReportPlugin:target/cucumber-reports/smoke"
         },
         monochrome = true,
         tags = "@smoke"
@@ -43,8 +54,7 @@ class SmokeTestRunner {
         glue = {"stepDefinitions"},
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/positive-html",
-                "json:target/cucumber-reports/positive.json"
+                "reporting.StreamingReportPlugin:target/cucumber-reports/positive"
         },
         monochrome = true,
         tags = "@positive"
@@ -58,8 +68,7 @@ class PositiveTestRunner {
         glue = {"stepDefinitions"},
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/negative-html",
-                "json:target/cucumber-reports/negative.json"
+                "reporting.StreamingReportPlugin:target/cucumber-reports/negative"
         },
         monochrome = true,
         tags = "@negative"
@@ -73,8 +82,7 @@ class NegativeTestRunner {
         glue = {"stepDefinitions"},
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/boundary-html",
-                "json:target/cucumber-reports/boundary.json"
+                "reporting.StreamingReportPlugin:target/cucumber-reports/boundary"
         },
         monochrome = true,
         tags = "@boundary"
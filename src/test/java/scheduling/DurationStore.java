@@ -0,0 +1,186 @@
+package scheduling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import impact.ImpactMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historical scenario durations, one tab-separated line per scenario:
+ * "features/login.feature:12  <smoothed ms>  <samples>  <last ms>".
+ * Stored in target/durations/scenario-durations.tsv (-Ddurations.store to change), together
+ * with "#ingested  <report path>  <modified ms>:<bytes>" lines for the reports already added,
+ * so a report left on disk by an earlier run is not counted again.
+ *
+ * New measurements are blended in with an exponentially weighted average, so one
+ * slow run does not reshuffle every shard.
+ */
+public class DurationStore {
+
+    private static final double SMOOTHING = 0.3;
+    private static final String INGESTED_PREFIX = "#ingested";
+
+    private final File file;
+    private final Map<String, Entry> entries = new TreeMap<>();
+    private final Map<String, String> ingestedReports = new TreeMap<>();
+
+    public record Entry(long smoothedMillis, int samples, long lastMillis) {
+
+        Entry add(long millis) {
+            long smoothed = Math.round(SMOOTHING * millis + (1 - SMOOTHING) * smoothedMillis);
+            return new Entry(smoothed, samples + 1, millis);
+        }
+    }
+
+    private DurationStore(File file) {
+        this.file = file;
+    }
+
+    public static DurationStore load() {
+        return load(new File(System.getProperty("durations.store", "target/durations/scenario-durations.tsv")));
+    }
+
+    static DurationStore load(File file) {
+        DurationStore store = new DurationStore(file);
+        if (store.file.exists()) {
+            try {
+                for (String line : Files.readAllLines(store.file.toPath(), StandardCharsets.UTF_8)) {
+                    String[] columns = line.split("\t");
+                    if (columns.length == 3 && columns[0].equals(INGESTED_PREFIX)) {
+                        store.ingestedReports.put(columns[1], columns[2]);
+                    } else if (columns.length == 4) {
+                        store.entries.put(columns[0], new Entry(
+                                Long.parseLong(columns[1]), Integer.parseInt(columns[2]), Long.parseLong(columns[3])));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read duration store " + store.file, e);
+            }
+        }
+        return store;
+    }
+
+    public void save() {
+        List<String> lines = new ArrayList<>();
+        entries.forEach((key, entry) -> lines.add(
+                key + "\t" + entry.smoothedMillis() + "\t" + entry.samples() + "\t" + entry.lastMillis()));
+        ingestedReports.forEach((path, fingerprint) -> lines.add(INGESTED_PREFIX + "\t" + path + "\t" + fingerprint));
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try {
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write duration store " + file, e);
+        }
+    }
+
+    // True when this report, unchanged since then, has been ingested before
+    public boolean isIngested(File report) {
+        return fingerprint(report).equals(ingestedReports.get(report.getAbsolutePath()));
+    }
+
+    private void markIngested(File report) {
+        ingestedReports.put(report.getAbsolutePath(), fingerprint(report));
+    }
+
+    private static String fingerprint(File report) {
+        return report.lastModified() + ":" + report.length();
+    }
+
+    /**
+     * Adds the passed scenarios of a StreamingReportPlugin results.ndjson file. Returns the
+     * number of scenarios ingested.
+     */
+    public int ingestNdjson(File results) {
+        ObjectMapper mapper = new ObjectMapper();
+        int ingested = 0;
+        try {
+            for (String line : Files.readAllLines(results.toPath(), StandardCharsets.UTF_8)) {
+                JsonNode scenario = mapper.readTree(line);
+                if (scenario.path("status").asText().equals("PASSED")) {
+                    record(scenario.path("scenarioKey").asText(), scenario.path("durationMillis").asLong());
+                    ingested++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read results " + results, e);
+        }
+        markIngested(results);
+        return ingested;
+    }
+
+    /**
+     * Adds the scenarios of a Cucumber json: report (e.g. from a run with --plugin json:..., passed as -Preports). Background steps are counted towards the
+     * scenario they ran for; scenarios that did not pass are skipped because their duration
+     * stops at the failure. Returns the number of scenarios ingested.
+     */
+    public int ingestCucumberJson(File report) {
+        JsonNode features;
+        try {
+            features = new ObjectMapper().readTree(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read Cucumber report " + report, e);
+        }
+
+        int ingested = 0;
+        for (JsonNode feature : features) {
+            long backgroundNanos = 0;
+            for (JsonNode element : feature.path("elements")) {
+                Duration duration = duration(element);
+                if (element.path("type").asText().equals("background")) {
+                    backgroundNanos = duration.nanos();
+                    continue;
+                }
+                if (duration.passed()) {
+                    String key = ImpactMap.scenarioKey(feature.path("uri").asText(), element.path("line").asInt());
+                    record(key, (duration.nanos() + backgroundNanos) / 1_000_000);
+                    ingested++;
+                }
+                backgroundNanos = 0;
+            }
+        }
+        markIngested(report);
+        return ingested;
+    }
+
+    public void record(String scenarioKey, long millis) {
+        entries.merge(scenarioKey, new Entry(millis, 1, millis), (old, ignored) -> old.add(millis));
+    }
+
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    // Scenarios without history are scheduled as if they took the median of the known ones
+    public long estimate(String scenarioKey) {
+        Entry entry = entries.get(scenarioKey);
+        if (entry != null) {
+            return entry.smoothedMillis();
+        }
+        long[] known = entries.values().stream().mapToLong(Entry::smoothedMillis).sorted().toArray();
+        return known.length == 0 ? 1 : known[known.length / 2];
+    }
+
+    private static Duration duration(JsonNode element) {
+        long nanos = 0;
+        boolean passed = true;
+        for (String section : new String[]{"before", "steps", "after"}) {
+            for (JsonNode step : element.path(section)) {
+                JsonNode result = step.path("result");
+                nanos += result.path("duration").asLong();
+                passed &= result.path("status").asText().equals("passed");
+            }
+        }
+        return new Duration(nanos, passed);
+    }
+
+    private record Duration(long nanos, boolean passed) {
+    }
+}
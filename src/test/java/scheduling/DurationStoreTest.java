@@ -0,0 +1,99 @@
+package scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DurationStoreTest {
+
+    private static final String LOGIN = "features/login.feature:12";
+    private static final String LOGOUT = "features/login.feature:30";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("New durations are blended into the smoothed average")
+    public void testSmoothing() {
+        DurationStore store = DurationStore.load(dir.resolve("durations.tsv").toFile());
+
+        store.record(LOGIN, 1000);
+        store.record(LOGIN, 2000);
+
+        DurationStore.Entry entry = store.getEntries().get(LOGIN);
+        assertEquals(1300, entry.smoothedMillis());
+        assertEquals(2, entry.samples());
+        assertEquals(2000, entry.lastMillis());
+    }
+
+    @Test
+    @DisplayName("Scenarios without history are estimated at the median of the known ones")
+    public void testEstimate() {
+        DurationStore store = DurationStore.load(dir.resolve("durations.tsv").toFile());
+        assertEquals(1, store.estimate(LOGIN));
+
+        store.record(LOGIN, 100);
+        store.record(LOGOUT, 900);
+        store.record("features/inventory.feature:10", 400);
+
+        assertEquals(100, store.estimate(LOGIN));
+        assertEquals(400, store.estimate("features/new.feature:1"));
+    }
+
+    @Test
+    @DisplayName("Entries survive a save and load")
+    public void testRoundTrip() {
+        File file = dir.resolve("durations/scenario-durations.tsv").toFile();
+        DurationStore store = DurationStore.load(file);
+        store.record(LOGIN, 1000);
+        store.record(LOGIN, 2000);
+        store.save();
+
+        assertEquals(store.getEntries(), DurationStore.load(file).getEntries());
+    }
+
+    @Test
+    @DisplayName("Only passed scenarios of a results.ndjson are ingested")
+    public void testIngestNdjson() throws IOException {
+        File results = writeResults(
+                "{\"scenarioKey\":\"" + LOGIN + "\",\"status\":\"PASSED\",\"durationMillis\":800}",
+                "{\"scenarioKey\":\"" + LOGOUT + "\",\"status\":\"FAILED\",\"durationMillis\":50}");
+        DurationStore store = DurationStore.load(dir.resolve("durations.tsv").toFile());
+
+        assertEquals(1, store.ingestNdjson(results));
+        assertEquals(800, store.getEntries().get(LOGIN).smoothedMillis());
+        assertNull(store.getEntries().get(LOGOUT));
+    }
+
+    @Test
+    @DisplayName("A report is ingested once until it changes, also across save and load")
+    public void testReportIngestedOnce() throws IOException {
+        File file = dir.resolve("durations.tsv").toFile();
+        File results = writeResults("{\"scenarioKey\":\"" + LOGIN + "\",\"status\":\"PASSED\",\"durationMillis\":800}");
+        DurationStore store = DurationStore.load(file);
+        assertFalse(store.isIngested(results));
+
+        store.ingestNdjson(results);
+        store.save();
+        assertTrue(DurationStore.load(file).isIngested(results));
+
+        Files.writeString(results.toPath(), "{\"scenarioKey\":\"" + LOGOUT + "\",\"status\":\"PASSED\",\"durationMillis\":300}\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertFalse(DurationStore.load(file).isIngested(results));
+    }
+
+    private File writeResults(String... lines) throws IOException {
+        Path results = dir.resolve("results.ndjson");
+        Files.write(results, List.of(lines), StandardCharsets.UTF_8);
+        return results.toFile();
+    }
+}
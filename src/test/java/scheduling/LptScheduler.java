@@ -0,0 +1,61 @@
+package scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Longest-processing-time-first scheduling: scenarios are sorted by expected duration,
+ * longest first, and each goes to the shard with the least work so far. The resulting
+ * makespan is within 4/3 of the optimum.
+ */
+public class LptScheduler {
+
+    public record Shard(int index, List<String> scenarios, long totalMillis) {
+    }
+
+    public static List<Shard> schedule(Map<String, Long> expectedMillis, int shardCount) {
+        List<Map.Entry<String, Long>> longestFirst = new ArrayList<>(expectedMillis.entrySet());
+        // Ties are broken by key so every CI shard computes the same plan
+        longestFirst.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        List<List<String>> scenarios = new ArrayList<>();
+        long[] totals = new long[shardCount];
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> totals[shard]).thenComparingInt(shard -> shard));
+        for (int i = 0; i < shardCount; i++) {
+            scenarios.add(new ArrayList<>());
+            leastLoaded.add(i);
+        }
+
+        for (Map.Entry<String, Long> scenario : longestFirst) {
+            int shard = leastLoaded.poll();
+            scenarios.get(shard).add(scenario.getKey());
+            totals[shard] += scenario.getValue();
+            leastLoaded.add(shard);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i, scenarios.get(i), totals[i]));
+        }
+        return shards;
+    }
+
+    public static void printBalance(List<Shard> shards) {
+        long total = shards.stream().mapToLong(Shard::totalMillis).sum();
+        long makespan = shards.stream().mapToLong(Shard::totalMillis).max().orElse(0);
+        double ideal = shards.isEmpty() ? 0 : (double) total / shards.size();
+
+        System.out.println("\n=== Shard Balance (longest-first) ===");
+        System.out.printf("%-8s %10s %12s %12s%n", "shard", "scenarios", "expected s", "vs ideal");
+        for (Shard shard : shards) {
+            System.out.printf("%-8d %10d %12.1f %+11.1f%%%n", shard.index(), shard.scenarios().size(),
+                    shard.totalMillis() / 1000.0, ideal == 0 ? 0 : (shard.totalMillis() - ideal) / ideal * 100);
+        }
+        System.out.printf("Ideal per shard: %.1f s, makespan: %.1f s (%.1f%% above ideal)%n",
+                ideal / 1000, makespan / 1000.0, ideal == 0 ? 0 : (makespan - ideal) / ideal * 100);
+    }
+}
@@ -0,0 +1,63 @@
+package scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LptSchedulerTest {
+
+    @Test
+    @DisplayName("Longest scenarios go first, each to the least loaded shard")
+    public void testLongestFirstToLeastLoaded() {
+        Map<String, Long> expected = Map.of("a", 7L, "b", 5L, "c", 4L, "d", 3L, "e", 3L, "f", 2L);
+
+        List<LptScheduler.Shard> shards = LptScheduler.schedule(expected, 2);
+
+        assertEquals(List.of("a", "d", "f"), shards.get(0).scenarios());
+        assertEquals(List.of("b", "c", "e"), shards.get(1).scenarios());
+        assertEquals(12, shards.get(0).totalMillis());
+        assertEquals(12, shards.get(1).totalMillis());
+    }
+
+    @Test
+    @DisplayName("Every scenario is scheduled exactly once")
+    public void testEveryScenarioOnce() {
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            expected.put("features/login.feature:" + i, (long) (i * 37 % 11 + 1));
+        }
+
+        List<LptScheduler.Shard> shards = LptScheduler.schedule(expected, 4);
+
+        List<String> scheduled = shards.stream().flatMap(shard -> shard.scenarios().stream()).sorted().toList();
+        assertEquals(expected.keySet().stream().sorted().toList(), scheduled);
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(),
+                shards.stream().mapToLong(LptScheduler.Shard::totalMillis).sum());
+    }
+
+    @Test
+    @DisplayName("Equal durations give the same plan regardless of map order")
+    public void testDeterministicTieBreak() {
+        Map<String, Long> first = new HashMap<>(Map.of("c", 1L, "a", 1L, "b", 1L, "d", 1L));
+        Map<String, Long> second = new TreeMap<>(first);
+
+        assertEquals(LptScheduler.schedule(first, 2), LptScheduler.schedule(second, 2));
+        assertEquals(List.of("a", "c"), LptScheduler.schedule(first, 2).get(0).scenarios());
+    }
+
+    @Test
+    @DisplayName("More shards than scenarios leaves the extra shards empty")
+    public void testMoreShardsThanScenarios() {
+        List<LptScheduler.Shard> shards = LptScheduler.schedule(Map.of("x", 5L), 3);
+
+        assertEquals(3, shards.size());
+        assertEquals(List.of("x"), shards.get(0).scenarios());
+        assertTrue(shards.get(1).scenarios().isEmpty());
+        assertTrue(shards.get(2).scenarios().isEmpty());
+    }
+}
@@ -0,0 +1,75 @@
+package scheduling;
+
+import impact.ImpactMap;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Keeps the Cucumber scenarios that LptScheduler assigns to this CI shard
+ * (-Dshard.count=N -Dshard.index=0..N-1). All shards discover the same scenarios and read
+ * the same duration store, so they agree on the plan without talking to each other.
+ * Only scenarios that every other registered filter (impact selection, quarantine) keeps are
+ * planned, whatever order the launcher applies the filters in.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private final int shardCount = Integer.getInteger("shard.count", 0);
+    private final int shardIndex = Integer.getInteger("shard.index", 0);
+    private Set<String> assigned;
+
+    public ShardFilter() {
+        if (shardCount > 1 && (shardIndex < 0 || shardIndex >= shardCount)) {
+            throw new IllegalArgumentException("-Dshard.index must be between 0 and " + (shardCount - 1)
+                    + " for -Dshard.count=" + shardCount + ", was " + shardIndex);
+        }
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        String scenarioKey = ImpactMap.scenarioKey(descriptor);
+        if (shardCount <= 1 || scenarioKey == null) {
+            return FilterResult.included("sharding not applicable");
+        }
+        if (assigned == null) {
+            assigned = plan(root(descriptor));
+        }
+        return assigned.contains(scenarioKey)
+                ? FilterResult.included("assigned to shard " + shardIndex)
+                : FilterResult.excluded("assigned to another shard");
+    }
+
+    // Runs on the first scenario, while the launcher has not removed anything from the tree yet
+    private Set<String> plan(TestDescriptor root) {
+        List<PostDiscoveryFilter> others = ServiceLoader.load(PostDiscoveryFilter.class).stream()
+                .filter(provider -> provider.type() != ShardFilter.class)
+                .map(ServiceLoader.Provider::get)
+                .toList();
+        DurationStore store = DurationStore.load();
+        Map<String, Long> expected = new HashMap<>();
+        for (TestDescriptor descriptor : root.getDescendants()) {
+            String key = ImpactMap.scenarioKey(descriptor);
+            if (key != null && others.stream().allMatch(filter -> filter.apply(descriptor).included())) {
+                expected.put(key, store.estimate(key));
+            }
+        }
+
+        List<LptScheduler.Shard> shards = LptScheduler.schedule(expected, shardCount);
+        LptScheduler.printBalance(shards);
+        return new HashSet<>(shards.get(shardIndex).scenarios());
+    }
+
+    private static TestDescriptor root(TestDescriptor descriptor) {
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        return root;
+    }
+}
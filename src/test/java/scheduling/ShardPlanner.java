@@ -0,0 +1,46 @@
+package scheduling;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ./gradlew ingestDurations [-Preports=a.ndjson,b.json]
+ *     adds the results.ndjson / Cucumber json reports of the last run to the duration store
+ * ./gradlew planShards -Dshard.count=4
+ *     prints the longest-first plan for the known scenarios and how balanced it is
+ */
+public class ShardPlanner {
+
+    public static void main(String[] args) {
+        DurationStore store = DurationStore.load();
+
+        if (args.length > 0 && args[0].equals("ingest")) {
+            String reports = args.length > 1 ? args[1] : "target/cucumber-reports/live/results.ndjson";
+            for (String path : reports.split(",")) {
+                File report = new File(path);
+                if (report.exists() && store.isIngested(report)) {
+                    System.out.println("Already ingested " + report + " (no run since), skipping");
+                } else if (report.exists()) {
+                    int ingested = path.endsWith(".ndjson") ? store.ingestNdjson(report) : store.ingestCucumberJson(report);
+                    System.out.println("Ingested " + ingested + " scenario durations from " + report);
+                } else {
+                    System.out.println("No Cucumber report at " + report + ", nothing to ingest");
+                }
+            }
+            store.save();
+            return;
+        }
+
+        int shardCount = Integer.getInteger("shard.count", Runtime.getRuntime().availableProcessors());
+        Map<String, Long> expected = new HashMap<>();
+        store.getEntries().forEach((key, entry) -> expected.put(key, entry.smoothedMillis()));
+        List<LptScheduler.Shard> shards = LptScheduler.schedule(expected, shardCount);
+
+        for (LptScheduler.Shard shard : shards) {
+            System.out.println("Shard " + shard.index() + ": " + String.join(" ", shard.scenarios()));
+        }
+        LptScheduler.printBalance(shards);
+    }
+}
@@ -0,0 +1,55 @@
+package stepDefinitions;
+
+import context.TestContext;
+import drivers.BrowserContexts;
+import drivers.BrowserModeStats;
+import grid.NodeScheduler;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.Before;
+import io.cucumber.java.Scenario;
+import locators.LocatorStats;
+import network.NetworkStats;
+import retry.RetryPolicy;
+import waits.WaitBudgets;
+import waits.WaitStats;
+
+public class Hooks {
+
+    private final TestContext context;
+
+    public Hooks(TestContext context) {
+        this.context = context;
+    }
+
+    @Before
+    public void setUp(Scenario scenario) {
+        context.setScenarioTags(scenario.getSourceTagNames());
+        context.startSession();
+    }
+
+    @After
+    public void tearDown(Scenario scenario) {
+        NetworkStats networkStats = context.detachNetworkShaper(scenario.getName());
+        if (networkStats != null) {
+            scenario.log(networkStats.toString());
+        }
+        // One aggregated entry for data-driven scenarios instead of one per dataset row
+        if (context.getDatasetSummary() != null) {
+            scenario.log(context.getDatasetSummary().toString());
+        }
+        // With -Dretry.session=fresh a retried scenario never inherits the browser its failed attempt ran in
+        context.endSession(scenario.isFailed() && RetryPolicy.freshSessionOnFailure());
+    }
+
+    @AfterAll
+    public static void printSummaries() {
+        WaitStats.printSummary();
+        WaitBudgets.save();
+        NetworkStats.printSummary();
+        LocatorStats.printSummary();
+        BrowserModeStats.printSummary();
+        BrowserContexts.printSummary();
+        NodeScheduler.printSummary();
+    }
+}
@@ -1,67 +1,33 @@
 package stepDefinitions;
 
-import io.cucumber.java.After;
-import io.cucumber.java.Before;
+import context.TestContext;
+import datasets.BatchRunner;
+import datasets.DatasetReader;
+import datasets.DatasetSummary;
+import datasets.LoginDatasetHandler;
 import io.cucumber.java.en.*;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import pages.InventoryItem;
 import pages.LoginPage;
 import pages.HomePage;
-import java.time.Duration;
+import java.util.List;
 
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class LoginStepDefinitions {
 
-    private WebDriver driver;
-    private LoginPage loginPage;
-    private HomePage homePage;
+    private final TestContext context;
+    private final LoginPage loginPage;
+    private final HomePage homePage;
 
-    @Before
-    public void setUp() {
+    // Collected by the fill steps in fast-fill mode and submitted together by the click step
+    private String pendingUsername = "";
+    private String pendingPassword = "";
 
-        String browserName = System.getProperty("browser", "chrome").toLowerCase();
-
-        switch (browserName) {
-            case "chrome":
-                WebDriverManager.chromedriver().setup();
-                ChromeOptions chromeOptions = new ChromeOptions();
-
-                chromeOptions.addArguments("--no-sandbox");
-                chromeOptions.addArguments("--disable-dev-shm-usage");
-                chromeOptions.addArguments("--headless");
-                driver = new ChromeDriver(chromeOptions);
-                break;
-
-            case "firefox":
-                WebDriverManager.firefoxdriver().setup();
-                FirefoxOptions firefoxOptions = new FirefoxOptions();
-                firefoxOptions.addArguments("--headless");
-                driver = new FirefoxDriver(firefoxOptions);
-                break;
-
-            default:
-                throw new IllegalArgumentException("Browser not supported: " + browserName);
-        }
-
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-
-        loginPage = new LoginPage(driver);
-        homePage = new HomePage(driver);
-    }
-
-    @After
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
+    public LoginStepDefinitions(TestContext context) {
+        this.context = context;
+        this.loginPage = context.getLoginPage();
+        this.homePage = context.getHomePage();
     }
 
     @Given("I am on the SauceDemo login page")
@@ -72,19 +38,60 @@ public class LoginStepDefinitions {
                 .isTrue();
     }
 
+    @Given("I am logged in as {string}")
+    public void i_am_logged_in_as(String username) {
+        context.loginAs(username, System.getProperty("saucedemo.password", "secret_sauce"));
+        assertThat(homePage.getCurrentUrl())
+                .as("Logged-in scenario should start on the inventory page")
+                .contains("inventory.html");
+    }
+
     @When("I enter username {string}")
     public void i_enter_username(String username) {
-        loginPage.enterUsername(username);
+        if (context.isFastFill()) {
+            pendingUsername = username;
+        } else {
+            loginPage.enterUsername(username);
+        }
     }
 
     @When("I enter password {string}")
     public void i_enter_password(String password) {
-        loginPage.enterPassword(password);
+        if (context.isFastFill()) {
+            pendingPassword = password;
+        } else {
+            loginPage.enterPassword(password);
+        }
     }
 
     @When("I click the login button")
     public void i_click_the_login_button() {
-        loginPage.clickLoginButton();
+        if (context.isFastFill()) {
+            loginPage.fastLogin(pendingUsername, pendingPassword);
+        } else {
+            loginPage.clickLoginButton();
+        }
+    }
+
+    // -Ddataset.login overrides the dataset named in the feature, e.g. target/datasets/login-matrix.csv
+    @When("I try every login in the dataset {string}")
+    public void i_try_every_login_in_the_dataset(String dataset) {
+        String location = System.getProperty("dataset.login", dataset);
+        DatasetSummary summary = BatchRunner.run(location, DatasetReader.open(location),
+                LoginDatasetHandler.factory(context.getDriver()));
+        context.setDatasetSummary(summary);
+        System.out.println(summary);
+    }
+
+    @Then("every dataset row should match its expected result")
+    public void every_dataset_row_should_match_its_expected_result() {
+        DatasetSummary summary = context.getDatasetSummary();
+        assertThat(summary.getRows())
+                .as("Dataset should not be empty")
+                .isPositive();
+        assertThat(summary.getFailures())
+                .as("%d of %d dataset rows did not match", summary.getFailed(), summary.getRows())
+                .isEmpty();
     }
 
     @Then("I should be redirected to the home page")
@@ -115,7 +122,7 @@ public class LoginStepDefinitions {
 
     @Then("I should see an error message")
     public void i_should_see_an_error_message() {
-        assertThat(loginPage.isErrorMessageDisplayed())
+        assertThat(loginPage.waitForErrorMessage())
                 .as("Error message should be displayed")
                 .isTrue();
     }
@@ -142,23 +149,11 @@ public class LoginStepDefinitions {
     @When("I click on the menu button")
     public void i_click_on_the_menu_button() {
         homePage.openMenu();
-
-        try {
-            Thread.sleep(1500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
     }
 
     @When("I click on logout")
     public void i_click_on_logout() {
-        try {
-            homePage.clickLogout();
-
-            Thread.sleep(2500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        homePage.clickLogout();
     }
 
     @Then("I should be redirected back to the login page")
@@ -199,12 +194,16 @@ public class LoginStepDefinitions {
 
     @Then("I should see product names and prices")
     public void i_should_see_product_names_and_prices() {
-        assertThat(homePage.getProductNames())
+        List<InventoryItem> items = homePage.getInventoryItems();
+
+        assertThat(items)
+                .extracting(InventoryItem::name)
                 .as("Product names should not be empty")
                 .isNotEmpty()
                 .allMatch(name -> !name.trim().isEmpty());
 
-        assertThat(homePage.getProductPrices())
+        assertThat(items)
+                .extracting(InventoryItem::price)
                 .as("Product prices should not be empty")
                 .isNotEmpty()
                 .allMatch(price -> price.contains("$"));
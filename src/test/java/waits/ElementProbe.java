@@ -0,0 +1,59 @@
+package waits;
+
+import drivers.DriverFactory;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Fail-fast presence checks. The implicit wait is switched off for the duration of
+ * the probe, so an absent element is reported in milliseconds instead of after the
+ * full implicit timeout. Use explicit waits for elements that are expected to appear.
+ *
+ * -Dwait.probe=off keeps the implicit wait during probes, the behaviour before probes existed,
+ * as a baseline for PresenceProbeBenchmark.
+ */
+public class ElementProbe {
+
+    public static boolean isDisplayed(WebDriver driver, String name, WebElement element) {
+        long start = System.nanoTime();
+        boolean enabled = isEnabled();
+        if (enabled) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        try {
+            return element.isDisplayed();
+        } catch (WebDriverException e) {
+            return false;
+        } finally {
+            if (enabled) {
+                driver.manage().timeouts().implicitlyWait(DriverFactory.IMPLICIT_WAIT);
+            }
+            WaitStats.record("probe:" + name, System.nanoTime() - start, false);
+        }
+    }
+
+    public static boolean isPresent(WebDriver driver, String name, By locator) {
+        long start = System.nanoTime();
+        boolean enabled = isEnabled();
+        if (enabled) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        try {
+            List<WebElement> elements = driver.findElements(locator);
+            return !elements.isEmpty();
+        } finally {
+            if (enabled) {
+                driver.manage().timeouts().implicitlyWait(DriverFactory.IMPLICIT_WAIT);
+            }
+            WaitStats.record("probe:" + name, System.nanoTime() - start, false);
+        }
+    }
+
+    private static boolean isEnabled() {
+        return !"off".equalsIgnoreCase(System.getProperty("wait.probe"));
+    }
+}
@@ -0,0 +1,131 @@
+package waits;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Waits that return as soon as a condition holds instead of sleeping for a fixed time.
+ * Between checks it blocks inside the browser on a MutationObserver (or a URL change)
+ * rather than in the JVM, so the next check runs right after the DOM has changed.
+ * Drivers without JavaScript fall back to polling with a growing interval.
+ *
+ * The longest pause between checks comes from WaitBudgets once that wait has been learned.
+ * Outlasting the learned budget counts as a budget miss; the wait only fails after the timeout
+ * given to the constructor (or the budget, if that is longer).
+ *
+ * Use -Dwait.strategy=poll to force polling.
+ */
+public class SmartWait {
+
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 250;
+
+    // Resolves on the first DOM mutation, URL change or after arguments[0] ms, whichever comes first
+    private static final String AWAIT_CHANGE_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+            + "var startUrl = window.location.href;"
+            + "var finished = false;"
+            + "var observer, urlTimer, timer;"
+            + "function finish() {"
+            + "  if (finished) { return; }"
+            + "  finished = true;"
+            + "  observer.disconnect(); clearInterval(urlTimer); clearTimeout(timer);"
+            + "  done(true);"
+            + "}"
+            + "observer = new MutationObserver(finish);"
+            + "observer.observe(document, {attributes: true, childList: true, subtree: true, characterData: true});"
+            + "urlTimer = setInterval(function () { if (window.location.href !== startUrl) { finish(); } }, 20);"
+            + "timer = setTimeout(finish, arguments[0]);";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final boolean useMutationObserver;
+
+    public SmartWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.useMutationObserver = driver instanceof JavascriptExecutor
+                && !"poll".equalsIgnoreCase(System.getProperty("wait.strategy"));
+    }
+
+    public <T> T until(String name, Function<WebDriver, T> condition) {
+        WaitBudgets.Budget budget = WaitBudgets.budget(name, timeout);
+        long maxPollMillis = budget.learned() ? Math.min(budget.pollInterval().toMillis(), MAX_POLL_MILLIS) : MAX_POLL_MILLIS;
+        Duration limit = budget.limit(timeout);
+        long start = System.nanoTime();
+        long budgetDeadline = start + budget.timeout().toNanos();
+        long deadline = start + limit.toNanos();
+        boolean overBudget = false;
+        long pollMillis = MIN_POLL_MILLIS;
+
+        while (true) {
+            T result = evaluate(condition);
+            if (result != null && !Boolean.FALSE.equals(result)) {
+                WaitStats.record(name, System.nanoTime() - start, false);
+                return result;
+            }
+
+            long now = System.nanoTime();
+            long remainingMillis = (deadline - now) / 1_000_000;
+            if (remainingMillis <= 0) {
+                WaitStats.record(name, now - start, true);
+                throw new TimeoutException("Timed out after " + limit.toMillis() + " ms waiting for " + name);
+            }
+            if (!overBudget && budget.learned() && now > budgetDeadline) {
+                overBudget = true;
+                WaitStats.recordBudgetMiss(name);
+            }
+
+            if (useMutationObserver) {
+                awaitDomChange(Math.min(remainingMillis, maxPollMillis));
+            } else {
+                sleep(Math.min(remainingMillis, pollMillis));
+                pollMillis = Math.min(pollMillis * 2, maxPollMillis);
+            }
+        }
+    }
+
+    public boolean isSatisfied(String name, Function<WebDriver, ?> condition) {
+        try {
+            until(name, condition);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public void untilUrlChangesFrom(String name, String previousUrl) {
+        until(name, d -> !d.getCurrentUrl().equals(previousUrl));
+    }
+
+    private <T> T evaluate(Function<WebDriver, T> condition) {
+        try {
+            return condition.apply(driver);
+        } catch (NotFoundException | StaleElementReferenceException e) {
+            return null;
+        }
+    }
+
+    private void awaitDomChange(long maxMillis) {
+        try {
+            ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_CHANGE_SCRIPT, maxMillis);
+        } catch (WebDriverException e) {
+            // A navigation unloads the document while the script is waiting; that counts as a change
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package waits;
+
+import locators.PageElements;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that records every until() in WaitStats, named after the page-object method
+ * that waited and the ExpectedConditions factory plus the @FindBy field it was given
+ * (e.g. "HomePage.clickLogout: visibilityOf(HomePage.logoutLink)"), so two waits in one method
+ * keep separate budgets. The name never calls the driver: the field is only known for cached
+ * elements (see PageElements), and lambdas are named after the calling method alone. Once WaitBudgets has learned that wait it sets
+ * the polling interval, and a wait that outlasts the budget is counted as a budget miss but keeps
+ * waiting up to the timeout given to the constructor (or the budget, if that is longer).
+ */
+public class TimedWait extends WebDriverWait {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final Duration configuredTimeout;
+
+    public TimedWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.configuredTimeout = timeout;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        String name = callerName() + describe(isTrue);
+        WaitBudgets.Budget budget = WaitBudgets.budget(name, configuredTimeout);
+        Duration limit = budget.limit(configuredTimeout);
+        withTimeout(budget.timeout());
+        if (budget.pollInterval() != null) {
+            pollingEvery(budget.pollInterval());
+        }
+        long start = System.nanoTime();
+        try {
+            V result;
+            try {
+                result = super.until(isTrue);
+            } catch (TimeoutException e) {
+                Duration remaining = limit.minusNanos(System.nanoTime() - start);
+                if (remaining.isNegative() || remaining.isZero()) {
+                    throw e;
+                }
+                // Slower than learned but not yet failed; a one-off outlier must not fail the test
+                WaitStats.recordBudgetMiss(name);
+                withTimeout(remaining);
+                result = super.until(isTrue);
+            }
+            WaitStats.record(name, System.nanoTime() - start, false);
+            return result;
+        } catch (TimeoutException e) {
+            WaitStats.record(name, System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    // toString() is not used: Selenium's element proxies look the element up for it, and the
+    // real element's text carries the session id, which would give every session its own budget
+    private static String describe(Object condition) {
+        Method factory = condition.getClass().getEnclosingMethod();
+        if (factory == null) {
+            return "";
+        }
+        for (Field field : condition.getClass().getDeclaredFields()) {
+            try {
+                field.setAccessible(true);
+                String element = PageElements.describe(field.get(condition));
+                if (element != null) {
+                    return ": " + factory.getName() + "(" + element + ")";
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                // Not readable; the factory name alone still tells the conditions apart
+            }
+        }
+        return ": " + factory.getName();
+    }
+
+    private static String callerName() {
+        return WALKER.walk(frames -> frames
+                .skip(2)
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+}
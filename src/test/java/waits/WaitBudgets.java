@@ -0,0 +1,158 @@
+package waits;
+
+import config.TestEnvironment;
+import metrics.LatencyMetrics;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timeouts and polling intervals per named wait, learned from the latencies of earlier runs.
+ *
+ * The last wait.budget.window (default 200) latencies of every wait are kept in
+ * target/waits/wait-budgets-<site>.tsv (-Dwait.budgets.store to change), one file per site under
+ * test so a fast local fixture does not set the budgets for a loaded staging box. Once a wait has
+ * wait.budget.minSamples (default 20) samples, its timeout is
+ * p99 x wait.budget.margin (default 3) + wait.budget.slackMs (default 250 ms),
+ * within wait.budget.minMs (default 500) and wait.budget.maxMs (default 60000), and it is polled
+ * every p50 / 5 (10 to 250 ms). Until then the timeout the page object asks for is used.
+ * The budget is a soft limit: a wait that outlasts it is recorded as a budget miss and keeps
+ * waiting up to the page object's timeout, so one cold-session or GC outlier does not fail a test.
+ * A budget longer than that timeout extends it. A real timeout counts as a sample of twice its
+ * length, so a budget that was too tight grows again. -Dwait.budget=off keeps the fixed timeouts
+ * but still learns.
+ */
+public class WaitBudgets {
+
+    private static final int WINDOW = Integer.getInteger("wait.budget.window", 200);
+    private static final int MIN_SAMPLES = Integer.getInteger("wait.budget.minSamples", 20);
+    private static final double MARGIN = Double.parseDouble(System.getProperty("wait.budget.margin", "3"));
+    private static final long SLACK_MILLIS = Long.getLong("wait.budget.slackMs", 250);
+    private static final long MIN_MILLIS = Long.getLong("wait.budget.minMs", 500);
+    private static final long MAX_MILLIS = Long.getLong("wait.budget.maxMs", 60_000);
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 250;
+
+    private static final Map<String, Deque<Long>> SAMPLES = load();
+
+    /** learned is false while a wait has too few samples (or with -Dwait.budget=off); pollInterval is then null. */
+    public record Budget(Duration timeout, Duration pollInterval, boolean learned) {
+
+        /** When a wait with this budget fails: the configured timeout, or the budget if that is longer. */
+        public Duration limit(Duration configured) {
+            return timeout.compareTo(configured) > 0 ? timeout : configured;
+        }
+    }
+
+    public static Budget budget(String name, Duration fallback) {
+        long[] sorted = sortedSamples(name);
+        if (sorted.length < MIN_SAMPLES || "off".equalsIgnoreCase(System.getProperty("wait.budget"))) {
+            return new Budget(fallback, null, false);
+        }
+        long timeout = Math.round(percentile(sorted, 0.99) * MARGIN) + SLACK_MILLIS;
+        long poll = percentile(sorted, 0.5) / 5;
+        Budget budget = new Budget(
+                Duration.ofMillis(Math.max(MIN_MILLIS, Math.min(MAX_MILLIS, timeout))),
+                Duration.ofMillis(Math.max(MIN_POLL_MILLIS, Math.min(MAX_POLL_MILLIS, poll))),
+                true);
+        LatencyMetrics.setGauge(LatencyMetrics.WAIT_BUDGET, budget.timeout().toNanos(), "wait", name);
+        return budget;
+    }
+
+    // Called by WaitStats for every wait
+    static void observe(String name, long elapsedNanos, boolean timedOut) {
+        long millis = elapsedNanos / 1_000_000 * (timedOut ? 2 : 1);
+        Deque<Long> samples = SAMPLES.computeIfAbsent(name, k -> new ArrayDeque<>());
+        synchronized (samples) {
+            samples.addLast(millis);
+            while (samples.size() > WINDOW) {
+                samples.removeFirst();
+            }
+        }
+    }
+
+    public static Map<String, Budget> snapshot() {
+        Map<String, Budget> budgets = new TreeMap<>();
+        SAMPLES.keySet().forEach(name -> budgets.put(name, budget(name, Duration.ZERO)));
+        return budgets;
+    }
+
+    public static synchronized void save() {
+        File file = storeFile();
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(SAMPLES).forEach((name, samples) -> {
+            synchronized (samples) {
+                if (!samples.isEmpty()) {
+                    lines.add(name + "\t" + String.join(",", samples.stream().map(String::valueOf).toList()));
+                }
+            }
+        });
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        try {
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write wait budgets " + file, e);
+        }
+    }
+
+    private static Map<String, Deque<Long>> load() {
+        Map<String, Deque<Long>> samples = new ConcurrentHashMap<>();
+        File file = storeFile();
+        if (file.exists()) {
+            try {
+                for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                    String[] columns = line.split("\t");
+                    if (columns.length == 2) {
+                        Deque<Long> values = new ArrayDeque<>();
+                        Arrays.stream(columns[1].split(",")).map(Long::parseLong).forEach(values::addLast);
+                        samples.put(columns[0], values);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read wait budgets " + file, e);
+            }
+        }
+        return samples;
+    }
+
+    private static File storeFile() {
+        String override = System.getProperty("wait.budgets.store");
+        if (override != null) {
+            return new File(override);
+        }
+        // The local fixture gets a new port every run, so it is keyed as "local" rather than by host
+        String site = TestEnvironment.isLocal() && System.getProperty("saucedemo.url") == null
+                ? "local"
+                : URI.create(TestEnvironment.webBaseUrl()).getHost();
+        return new File("target/waits/wait-budgets-" + site + ".tsv");
+    }
+
+    private static long[] sortedSamples(String name) {
+        Deque<Long> samples = SAMPLES.get(name);
+        if (samples == null) {
+            return new long[0];
+        }
+        long[] values;
+        synchronized (samples) {
+            values = samples.stream().mapToLong(Long::longValue).toArray();
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,84 @@
+package waits;
+
+import metrics.LatencyMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency statistics for every named wait, shared by all threads. Every wait is also
+ * recorded in LatencyMetrics for the metrics export and, except for zero-wait probes,
+ * fed to WaitBudgets.
+ */
+public class WaitStats {
+
+    private static final Map<String, Stat> STATS = new ConcurrentHashMap<>();
+
+    public static void record(String name, long elapsedNanos, boolean timedOut) {
+        STATS.computeIfAbsent(name, k -> new Stat()).add(elapsedNanos / 1_000_000, timedOut);
+        LatencyMetrics.record(LatencyMetrics.WAIT, elapsedNanos, "wait", name, "outcome", timedOut ? "timeout" : "ok");
+        if (!name.startsWith("probe:")) {
+            WaitBudgets.observe(name, elapsedNanos, timedOut);
+        }
+    }
+
+    // The wait outlasted its learned budget (see WaitBudgets) and kept waiting up to its configured timeout
+    public static void recordBudgetMiss(String name) {
+        STATS.computeIfAbsent(name, k -> new Stat()).budgetMisses.incrementAndGet();
+    }
+
+    public static Map<String, Stat> snapshot() {
+        return new TreeMap<>(STATS);
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    public static void printSummary() {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Wait Latency Summary ===");
+        System.out.printf("%-60s %8s %10s %10s %10s %10s %12s%n",
+                "wait", "count", "avg ms", "max ms", "timeouts", "budget ms", "over budget");
+        snapshot().forEach((name, stat) -> {
+            WaitBudgets.Budget budget = WaitBudgets.budget(name, Duration.ZERO);
+            System.out.printf("%-60s %8d %10.1f %10d %10d %10s %12d%n",
+                    name, stat.getCount(), stat.getAverageMillis(), stat.getMaxMillis(), stat.getTimeouts(),
+                    budget.learned() ? String.valueOf(budget.timeout().toMillis()) : "-", stat.getBudgetMisses());
+        });
+    }
+
+    public static class Stat {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalMillis = new AtomicLong();
+        private final AtomicLong maxMillis = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLong budgetMisses = new AtomicLong();
+
+        void add(long elapsedMillis, boolean timedOut) {
+            count.incrementAndGet();
+            totalMillis.addAndGet(elapsedMillis);
+            maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+            if (timedOut) {
+                timeouts.incrementAndGet();
+            }
+        }
+
+        public long getCount() { return count.get(); }
+
+        public long getMaxMillis() { return maxMillis.get(); }
+
+        public long getTimeouts() { return timeouts.get(); }
+
+        public long getBudgetMisses() { return budgetMisses.get(); }
+
+        public double getAverageMillis() {
+            long n = count.get();
+            return n == 0 ? 0 : (double) totalMillis.get() / n;
+        }
+    }
+}
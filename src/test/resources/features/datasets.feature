@@ -0,0 +1,9 @@
+@dataset
+Feature: Data-driven SauceDemo Login
+  As a tester
+  I want to run whole credential datasets through the login form
+  So that large credential matrices and boundary fuzz runs fit in one scenario
+
+  Scenario: Credential matrix from a dataset
+    When I try every login in the dataset "datasets/login-matrix.csv"
+    Then every dataset row should match its expected result
@@ -0,0 +1,19 @@
+Feature: SauceDemo Product Inventory
+  As a logged in user of SauceDemo
+  I want to see the product inventory
+  So that I can choose products to buy
+
+  Background:
+    Given I am logged in as "standard_user"
+
+  @positive
+  Scenario: Inventory page shows the products
+    Then I should be redirected to the home page
+    And the page title should contain "Products"
+    And I should see at least 6 products
+
+  @positive
+  Scenario: Inventory page shows product details
+    Then I should see the app logo
+    And I should see the shopping cart icon
+    And I should see product names and prices